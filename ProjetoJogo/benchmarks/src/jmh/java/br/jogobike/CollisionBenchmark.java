@@ -0,0 +1,58 @@
+package br.jogobike;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Colisões do jogador contra N pedras espalhadas pela pista: a consulta ao
+// SpatialHash mais o teste exato só nos candidatos próximos. As pedras não se movem
+// aqui, então o número medido depende só da densidade e não do spawn.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"1", "2"})
+    public int level;
+
+    @Param({"16", "128", "1024"})
+    public int rockCount;
+
+    private GameWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameLog.setEnabled(false);
+        Random random = new Random(7);
+        world = new GameWorld(level, 7L);
+        world.setBenchmarkMode(true);
+        float trackBottom = world.getTrackBottom();
+        float trackTop = world.getTrackTop();
+        for (int i = 0; i < rockCount; i++) {
+            float x = GameWorld.LARGURA_AVALANCHE + random.nextFloat() * (MainGame.VIRTUAL_WIDTH - GameWorld.LARGURA_AVALANCHE);
+            float y = trackBottom + random.nextFloat() * (trackTop - trackBottom - 48f);
+            world.placeRock(x, y, 0f);
+        }
+    }
+
+    @Benchmark
+    public GameWorld playerVersusObstacles() {
+        world.checkObstacleCollisions(world.getTrackBottom(), world.getTrackTop());
+        return world;
+    }
+}
@@ -0,0 +1,96 @@
+package br.jogobike;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de um passo da simulação e dos seus subsistemas, por fase e número de pedras.
+// O mundo roda em modo benchmark (sem dano, sem fim de fase) e as pedras que saem da
+// tela são repostas a cada operação, então a contagem de entidades fica estável.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameWorldBenchmark {
+
+    @Param({"1", "2"})
+    public int level;
+
+    @Param({"0", "16", "128"})
+    public int rockCount;
+
+    private GameWorld world;
+    private BotLog bot;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameLog.setEnabled(false);
+        random = new Random(42);
+        world = new GameWorld(level, 42L);
+        world.setBenchmarkMode(true);
+        world.setInputMask(InputRecording.ACCELERATE);
+        topUpRocks();
+
+        bot = new BotLog(MainGame.VIRTUAL_WIDTH + 50, world.getTrackBottom() + 10f, random, DifficultyParams.defaults().botBaseSpeed);
+
+        // Aquece avalanche e rastro até o regime estável antes de medir
+        for (int i = 0; i < 120 * 10; i++) {
+            world.update(GameScreen.SIM_STEP);
+            topUpRocks();
+        }
+    }
+
+    private void topUpRocks() {
+        float trackBottom = world.getTrackBottom();
+        float trackTop = world.getTrackTop();
+        while (world.getRocks().size < rockCount) {
+            float x = random.nextFloat() * MainGame.VIRTUAL_WIDTH;
+            float y = trackBottom + random.nextFloat() * (trackTop - trackBottom - 48f);
+            world.placeRock(x, y, 220f + random.nextFloat() * 80f);
+        }
+    }
+
+    @Benchmark
+    public GameWorld update() {
+        world.update(GameScreen.SIM_STEP);
+        topUpRocks();
+        return world;
+    }
+
+    @Benchmark
+    public GameWorld updateRocks() {
+        world.updateRocks(GameScreen.SIM_STEP, world.getTrackBottom(), world.getTrackTop());
+        topUpRocks();
+        return world;
+    }
+
+    @Benchmark
+    public GameWorld updateAvalanche() {
+        world.updateAvalanche(GameScreen.SIM_STEP);
+        return world;
+    }
+
+    @Benchmark
+    public boolean botLogUpdate() {
+        boolean dodged = bot.update(GameScreen.SIM_STEP, 200f, GameWorld.LARGURA_AVALANCHE, MainGame.VIRTUAL_WIDTH, 1.5f);
+        if (dodged) {
+            bot.respawn(MainGame.VIRTUAL_WIDTH, 50, 600, world.getTrackBottom(), world.getTrackTop());
+        }
+        return dodged;
+    }
+}
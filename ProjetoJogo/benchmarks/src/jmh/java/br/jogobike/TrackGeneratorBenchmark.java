@@ -0,0 +1,50 @@
+package br.jogobike;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de gerar um chunk do modo sem fim (o orçamento é de poucos microssegundos por chunk,
+// gerado no máximo um por passo). Cada operação gera o chunk seguinte e esvazia o anel, para
+// a medição cobrir chunks de todos os níveis de dificuldade sem o anel encher.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrackGeneratorBenchmark {
+
+    @Param({"0.5", "1", "2"})
+    public float density;
+
+    private TrackGenerator generator;
+    private int chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new TrackGenerator(42L, density);
+        chunk = 1;
+    }
+
+    @Benchmark
+    public int generateChunk() {
+        generator.generateChunk(chunk++);
+        int spawned = 0;
+        while (generator.poll(Float.MAX_VALUE)) {
+            spawned++;
+        }
+        return spawned;
+    }
+}
@@ -0,0 +1,109 @@
+package br.jogobike;
+
+import br.jogobike.headless.NullGL20;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.lang.management.ManagementFactory;
+
+// Verifica que um frame em regime (GameWorld.update + GameRenderer.render) não aloca nada.
+// Roda sem janela (backend headless + NullGL20), aquece cada fase e depois mede os bytes
+// alocados pela thread em cada frame com ThreadMXBean.getThreadAllocatedBytes.
+// Sai com código 1 se algum frame medido alocar; o Gradle liga isso ao 'check'.
+// Rodar só com o C1 (-XX:TieredStopAtLevel=1): o C2 esconde alocações com escape analysis
+// e, ao desotimizar, materializa objetos de forma esporádica; o C1 dá uma contagem exata.
+// Uso: ./gradlew benchmarks:checkAllocations
+public class AllocationCheck extends ApplicationAdapter {
+    private static final long SEED = 42L;
+    private static final int WARMUP_FRAMES = 3000;
+    private static final int MEASURED_FRAMES = 3000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private long threadId;
+
+    public static void main(String[] args) {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // nada de loop de render; todo o trabalho roda no create()
+        new HeadlessApplication(new AllocationCheck(), config);
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = new NullGL20();
+        threadId = Thread.currentThread().getId();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        MainGame game = new MainGame();
+        game.batch = new SpriteBatch();
+        game.font = new BitmapFont();
+        game.assets = new Assets();
+
+        boolean ok = true;
+        try {
+            long overhead = measureOverhead();
+            ok &= checkLevel(game, 1, overhead);
+            ok &= checkLevel(game, 2, overhead);
+        } catch (Throwable t) {
+            t.printStackTrace();
+            ok = false;
+        }
+        System.out.println(ok ? "OK: nenhum frame alocou memória em regime" : "FALHOU: há alocação no frame em regime");
+        System.exit(ok ? 0 : 1);
+    }
+
+    private boolean checkLevel(MainGame game, int level, long overhead) {
+        GameWorld world = new GameWorld(level, SEED);
+        world.setBenchmarkMode(true); // sem game over nem troca de fase durante a medição
+        GameRenderer renderer = new GameRenderer(game, world);
+        renderer.resize((int) MainGame.VIRTUAL_WIDTH, (int) MainGame.VIRTUAL_HEIGHT);
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            frame(world, renderer, frame);
+        }
+
+        long total = 0;
+        long worst = 0;
+        int allocatingFrames = 0;
+        for (int frame = 0; frame < MEASURED_FRAMES; frame++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            frame(world, renderer, WARMUP_FRAMES + frame);
+            long bytes = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+            if (bytes > 0) {
+                total += bytes;
+                worst = Math.max(worst, bytes);
+                allocatingFrames++;
+            }
+        }
+        renderer.dispose();
+
+        System.out.println("Fase " + level + ": " + total + " bytes em " + MEASURED_FRAMES + " frames ("
+            + allocatingFrames + " frames alocaram, pior frame " + worst + " bytes)");
+        return total == 0;
+    }
+
+    // Um frame: input sintético, um passo da simulação e o desenho completo
+    private void frame(GameWorld world, GameRenderer renderer, int frame) {
+        int phase = (frame / 90) % 4;
+        boolean up = phase == 0;
+        boolean down = phase == 2;
+        boolean brake = frame % 600 > 560;
+        world.setInputMask(InputRecording.mask(up, down, !brake, brake));
+        world.update(GameScreen.SIM_STEP);
+        renderer.render(GameScreen.SIM_STEP, 1f);
+    }
+
+    // Bytes que a própria leitura do contador aloca (normalmente zero)
+    private long measureOverhead() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            long after = threads.getThreadAllocatedBytes(threadId);
+            min = Math.min(min, after - before);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,101 @@
+package br.jogobike;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+// Cache de texturas/atlas compartilhado por todas as telas (um só, dono é o MainGame).
+// Em cima do AssetManager, que já conta referências: cada acquire() soma uma, cada
+// release() tira uma, e o arquivo só é liberado da GPU quando a contagem chega a zero.
+// Pedir o mesmo arquivo duas vezes não decodifica de novo.
+// Regra: toda tela faz release() no dispose() de tudo que pegou com acquire()/preload().
+public class Assets implements Disposable {
+    public static final String BACKGROUND_LEVEL_1 = "background.png";
+    public static final String BACKGROUND_LEVEL_2 = "MountainBackground.png";
+    public static final String SPRITE_ATLAS = "atlas/sprites.atlas";
+    // Sprites do jogo (regiões do atlas ou PNGs avulsos quando o atlas não foi gerado)
+    public static final String[] SPRITES = {"player_bike", "heart", "velocimetro", "pause", "pontos", "pedra", "tronco"};
+
+    private final AssetManager manager;
+
+    public Assets() {
+        manager = new AssetManager(new InternalFileHandleResolver());
+    }
+
+    public static String backgroundFor(int level) {
+        return level == 1 ? BACKGROUND_LEVEL_1 : BACKGROUND_LEVEL_2;
+    }
+
+    public boolean exists(String path) {
+        return Gdx.files.internal(path).exists();
+    }
+
+    // Conta uma referência e devolve o recurso, carregando na hora se ainda não estiver pronto.
+    // Se o arquivo já estava carregado, o load() só entra na fila e a referência é contada
+    // quando a fila anda; por isso esvaziamos a fila toda em vez de esperar só este arquivo.
+    public <T> T acquire(String path, Class<T> type) {
+        manager.load(path, type);
+        manager.finishLoading();
+        return manager.get(path, type);
+    }
+
+    // Conta uma referência mas só põe o arquivo na fila; update() carrega aos poucos.
+    // Quem chama precisa de um release() depois, como no acquire().
+    public void preload(String path, Class<?> type) {
+        manager.load(path, type);
+    }
+
+    // Tudo que o GameRenderer pega ao abrir a fase; os caminhos postos na fila vão para 'preloaded'
+    public void preloadLevel(int level, Array<String> preloaded) {
+        String background = backgroundFor(level);
+        if (exists(background)) {
+            preload(background, Texture.class);
+            preloaded.add(background);
+        }
+        if (exists(SPRITE_ATLAS)) {
+            preload(SPRITE_ATLAS, TextureAtlas.class);
+            preloaded.add(SPRITE_ATLAS);
+            return;
+        }
+        for (String name : SPRITES) {
+            String path = name + ".png";
+            if (exists(path)) {
+                preload(path, Texture.class);
+                preloaded.add(path);
+            }
+        }
+    }
+
+    // Avança a fila sem travar o frame (a decodificação roda na thread do AssetManager).
+    // Devolve true quando não há mais nada para carregar.
+    public boolean update() {
+        return manager.update();
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public void release(String path) {
+        if (manager.contains(path)) {
+            manager.unload(path);
+        }
+    }
+
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    public int getReferenceCount(String path) {
+        return manager.isLoaded(path) ? manager.getReferenceCount(path) : 0;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
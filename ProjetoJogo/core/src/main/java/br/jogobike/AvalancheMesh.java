@@ -0,0 +1,133 @@
+package br.jogobike;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// Frente da avalanche como um triangle strip por camada, todos no mesmo Mesh.
+// Cada camada é x = base + A1*sin(f1*y + t1*tempo) + A2*cos(f2*y + t2*tempo).
+// Os termos que dependem só de y ficam em tabelas (uma amostra a cada SAMPLE_STEP px);
+// por frame só se calculam sin/cos do tempo e a soma de ângulos:
+//   sin(a + b) = sin(a)cos(b) + cos(a)sin(b)    cos(a + b) = cos(a)cos(b) - sin(a)sin(b)
+// Substitui ~1000 retângulos do ShapeRenderer por 3 chamadas de desenho.
+public class AvalancheMesh implements Disposable {
+    private static final float SAMPLE_STEP = 4f;
+
+    // Por camada (fundo, meio, frente): largura base, f1, A1, t1, f2, A2, t2
+    private static final float[][] WAVES = {
+        {0.8f, 0.05f, 15f, 0.8f, 0.08f, 10f, 1.0f},
+        {0.9f, 0.08f, 18f, 1.5f, 0.13f, 9f, 2.0f},
+        {1.0f, 0.12f, 20f, 2.2f, 0.20f, 10f, 3.0f}
+    };
+    private static final int LAYERS = WAVES.length;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "void main() {\n"
+            + "  gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "uniform vec4 u_color;\n"
+            + "void main() {\n"
+            + "  gl_FragColor = u_color;\n"
+            + "}\n";
+
+    private final int samples;
+    // Termos de y já multiplicados pela amplitude: A1*sin(f1*y), A1*cos(f1*y), A2*sin(f2*y), A2*cos(f2*y)
+    private final float[][] sin1, cos1, sin2, cos2;
+
+    private final float[] vertices;
+    private final int[] layerOffset = new int[LAYERS];
+    private final int[] layerCount = new int[LAYERS];
+    private final Mesh mesh;
+    private final ShaderProgram shader;
+
+    public AvalancheMesh(float maxHeight) {
+        samples = (int) Math.ceil(maxHeight / SAMPLE_STEP) + 1;
+        sin1 = new float[LAYERS][samples];
+        cos1 = new float[LAYERS][samples];
+        sin2 = new float[LAYERS][samples];
+        cos2 = new float[LAYERS][samples];
+        for (int layer = 0; layer < LAYERS; layer++) {
+            float[] w = WAVES[layer];
+            for (int i = 0; i < samples; i++) {
+                float y = i * SAMPLE_STEP;
+                sin1[layer][i] = w[2] * (float) Math.sin(w[1] * y);
+                cos1[layer][i] = w[2] * (float) Math.cos(w[1] * y);
+                sin2[layer][i] = w[5] * (float) Math.sin(w[4] * y);
+                cos2[layer][i] = w[5] * (float) Math.cos(w[4] * y);
+            }
+        }
+
+        int maxVertices = LAYERS * samples * 2;
+        vertices = new float[maxVertices * 2];
+        mesh = new Mesh(false, maxVertices, 0, new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE));
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Erro ao compilar o shader da avalanche: " + shader.getLog());
+        }
+    }
+
+    // Recalcula os vértices das três camadas para o tempo e a altura atuais
+    public void update(float time, float height) {
+        int count = Math.min(samples, (int) Math.ceil(height / SAMPLE_STEP) + 1);
+        int v = 0;
+        for (int layer = 0; layer < LAYERS; layer++) {
+            float[] w = WAVES[layer];
+            float base = GameWorld.LARGURA_AVALANCHE * w[0];
+            float sinT1 = (float) Math.sin(w[3] * time), cosT1 = (float) Math.cos(w[3] * time);
+            float sinT2 = (float) Math.sin(w[6] * time), cosT2 = (float) Math.cos(w[6] * time);
+            float[] s1 = sin1[layer], c1 = cos1[layer], s2 = sin2[layer], c2 = cos2[layer];
+
+            layerOffset[layer] = v / 2;
+            for (int i = 0; i < count; i++) {
+                float y = Math.min(i * SAMPLE_STEP, height);
+                float frontX = base
+                    + s1[i] * cosT1 + c1[i] * sinT1
+                    + c2[i] * cosT2 - s2[i] * sinT2;
+                vertices[v++] = 0f;
+                vertices[v++] = y;
+                vertices[v++] = frontX;
+                vertices[v++] = y;
+            }
+            layerCount[layer] = count * 2;
+        }
+        mesh.setVertices(vertices, 0, v);
+    }
+
+    // Desenha fundo, meio e frente (nessa ordem) com as cores da fase
+    public void render(Matrix4 projection, Color back, Color middle, Color front) {
+        if (layerCount[0] < 4) return; // avalanche sem altura
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformf("u_color", back);
+        mesh.render(shader, GL20.GL_TRIANGLE_STRIP, layerOffset[0], layerCount[0]);
+        shader.setUniformf("u_color", middle);
+        mesh.render(shader, GL20.GL_TRIANGLE_STRIP, layerOffset[1], layerCount[1]);
+        shader.setUniformf("u_color", front);
+        mesh.render(shader, GL20.GL_TRIANGLE_STRIP, layerOffset[2], layerCount[2]);
+
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    @Override
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,70 @@
+package br.jogobike;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+// Camadas paradas do cenário (céu, base da pista e a imagem de fundo) compostas uma vez num
+// FrameBuffer do tamanho da área do viewport na tela. A textura vira a camada de trás do
+// ParallaxBackground (um quad 1:1 com a tela, rolando em u), em vez de limpar com a cor do céu,
+// pintar a pista e amostrar a imagem grande (1248x832) várias vezes por frame.
+// Só é refeito quando a fase, o tamanho do viewport ou as cores mudam (invalidate()).
+public class BackgroundCache implements Disposable {
+    private FrameBuffer frameBuffer;
+    private boolean valid = false;
+    private final Matrix4 projection = new Matrix4();
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    // Recompõe se precisar; devolve false se não há área para desenhar (janela minimizada)
+    public boolean ensure(SpriteBatch batch, SpritePrimitives primitives, Texture background,
+                          Color skyColor, Color trackBaseColor, float trackTop,
+                          int pixelWidth, int pixelHeight) {
+        if (pixelWidth <= 0 || pixelHeight <= 0) return false;
+        if (valid && frameBuffer.getWidth() == pixelWidth && frameBuffer.getHeight() == pixelHeight) return true;
+
+        if (frameBuffer == null || frameBuffer.getWidth() != pixelWidth || frameBuffer.getHeight() != pixelHeight) {
+            if (frameBuffer != null) frameBuffer.dispose();
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, pixelWidth, pixelHeight, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+
+        projection.setToOrtho2D(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(skyColor.r, skyColor.g, skyColor.b, skyColor.a);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        primitives.setColor(trackBaseColor);
+        primitives.rect(0, 0, MainGame.VIRTUAL_WIDTH, trackTop);
+        batch.setColor(Color.WHITE);
+        batch.draw(background, 0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        batch.end();
+        frameBuffer.end(); // volta ao viewport da tela inteira: o chamador aplica o seu depois
+
+        valid = true;
+        return true;
+    }
+
+    // Guardada de baixo para cima, como toda textura de FrameBuffer (camada com flipY)
+    public Texture getTexture() {
+        return frameBuffer.getColorBufferTexture();
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        valid = false;
+    }
+}
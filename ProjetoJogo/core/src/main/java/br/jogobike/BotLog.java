@@ -1,25 +1,25 @@
 package br.jogobike;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.MathUtils;
 import java.util.Random;
 
 public class BotLog {
-    public Texture texture;
     public Rectangle rect;
 
     private float speedOffset;
+    private final float baseSpeed;
     private Random random;
 
 
+    // Posição no passo anterior (para interpolação na renderização)
+    private float prevX, prevY;
+
     private float alpha = 1.0f;
     private boolean isFadingOut = false;
     private final float FADE_SPEED = 3.0f; // ~0.33s para sumir
 
     // Constantes
-    private static final float BASE_SPEED = 200f;
     private static final float MIN_SPEED_OFFSET = -80f;
     private static final float MAX_SPEED_OFFSET = 120f;
     private static final float DEFAULT_WIDTH = 70f;
@@ -31,44 +31,16 @@ public class BotLog {
     private final float collisionOffsetX;
     private final float collisionOffsetY;
 
-    // Construtor com Texture direta
-    public BotLog(Texture texture, float x, float y) {
-        this.random = new Random();
-        this.texture = texture;
-        this.collisionOffsetX = (DEFAULT_WIDTH - COLLISION_WIDTH) / 2f;
-        this.collisionOffsetY = (DEFAULT_HEIGHT - COLLISION_HEIGHT) / 2f;
-        this.rect = new Rectangle(x + collisionOffsetX, y + collisionOffsetY, COLLISION_WIDTH, COLLISION_HEIGHT);
-        this.speedOffset = MathUtils.random(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
-        Gdx.app.log("BotLog", "Criado com textura fornecida");
-    }
-
-    // Construtor com caminho de arquivo
-    public BotLog(String texturePath, float x, float y) {
-        this.random = new Random();
-
-        try {
-            this.texture = new Texture(Gdx.files.internal(texturePath));
-            Gdx.app.log("BotLog", "Textura carregada: " + texturePath);
-        } catch (Exception e) {
-            Gdx.app.error("BotLog", "Erro ao carregar: " + texturePath + ", usando fallback");
-            this.texture = createPlaceholderTexture();
-        }
-
+    // Construtor lógico: a textura do tronco é responsabilidade do GameRenderer.
+    // O Random vem do GameWorld para que a corrida inteira dependa de uma única semente.
+    public BotLog(float x, float y, Random random, float baseSpeed) {
+        this.random = random;
+        this.baseSpeed = baseSpeed;
         this.collisionOffsetX = (DEFAULT_WIDTH - COLLISION_WIDTH) / 2f;
         this.collisionOffsetY = (DEFAULT_HEIGHT - COLLISION_HEIGHT) / 2f;
         this.rect = new Rectangle(x + collisionOffsetX, y + collisionOffsetY, COLLISION_WIDTH, COLLISION_HEIGHT);
-        this.speedOffset = MathUtils.random(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
-    }
-
-    // Construtor padrão para fallback
-    public BotLog() {
-        this.random = new Random();
-        this.texture = createPlaceholderTexture();
-        this.collisionOffsetX = (DEFAULT_WIDTH - COLLISION_WIDTH) / 2f;
-        this.collisionOffsetY = (DEFAULT_HEIGHT - COLLISION_HEIGHT) / 2f;
-        this.rect = new Rectangle(0, 0, COLLISION_WIDTH, COLLISION_HEIGHT);
-        this.speedOffset = MathUtils.random(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
-        Gdx.app.log("BotLog", "Criado com placeholder");
+        this.speedOffset = randomRange(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
+        savePreviousPosition();
     }
 
 
@@ -88,7 +60,7 @@ public class BotLog {
         }
         // ----------------------------------------------
 
-        float scaledBaseSpeed = BASE_SPEED * difficultyScalar;
+        float scaledBaseSpeed = baseSpeed * difficultyScalar;
         float speed = scaledBaseSpeed + speedOffset + (Math.abs(playerSpeedX) * 0.7f);
 
         float currentX = getX();
@@ -108,11 +80,28 @@ public class BotLog {
 
 
     public void respawn(float virtualWidth, float minSpawnDistance, float maxSpawnDistance, float trackBottom, float trackTop) {
-        float newX = virtualWidth + MathUtils.random(minSpawnDistance, maxSpawnDistance);
+        float newX = virtualWidth + randomRange(minSpawnDistance, maxSpawnDistance);
         // Agora usa os limites de pista passados como parâmetro
         float newY = getRandomPositionInTrack(trackBottom, trackTop);
-        this.speedOffset = MathUtils.random(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
+        this.speedOffset = randomRange(MIN_SPEED_OFFSET, MAX_SPEED_OFFSET);
         updatePosition(newX, newY);
+        // Teleporte: não interpola a partir da posição antiga
+        savePreviousPosition();
+    }
+
+    // Respawn com posição e velocidade já decididas (modo sem fim: vêm do TrackGenerator).
+    // lane e speedFraction vão de 0 a 1 dentro da pista e da faixa de variação de velocidade.
+    public void respawnAt(float x, float lane, float speedFraction, float trackBottom, float trackTop) {
+        float effectiveTrackTop = Math.max(trackBottom, trackTop - DEFAULT_HEIGHT);
+        float newY = trackBottom + lane * (effectiveTrackTop - trackBottom);
+        this.speedOffset = MIN_SPEED_OFFSET + speedFraction * (MAX_SPEED_OFFSET - MIN_SPEED_OFFSET);
+        updatePosition(x, newY);
+        savePreviousPosition();
+    }
+
+    public void savePreviousPosition() {
+        prevX = getX();
+        prevY = getY();
     }
 
     private float getRandomPositionInTrack(float trackBottom, float trackTop) {
@@ -126,7 +115,11 @@ public class BotLog {
             return trackBottom;
         }
 
-        return MathUtils.random(trackBottom, effectiveTrackTop);
+        return randomRange(trackBottom, effectiveTrackTop);
+    }
+
+    private float randomRange(float start, float end) {
+        return start + random.nextFloat() * (end - start);
     }
 
     // Getters
@@ -138,6 +131,14 @@ public class BotLog {
         return rect.y - collisionOffsetY;
     }
 
+    public float getRenderX(float alpha) {
+        return MathUtils.lerp(prevX, getX(), alpha);
+    }
+
+    public float getRenderY(float alpha) {
+        return MathUtils.lerp(prevY, getY(), alpha);
+    }
+
     public float getWidth() {
         return DEFAULT_WIDTH;
     }
@@ -150,33 +151,4 @@ public class BotLog {
     public float getAlpha() {
         return Math.max(0, alpha); // Garante que não seja negativo
     }
-
-    private Texture createPlaceholderTexture() {
-        if (MainGame.placeholderTexture != null) {
-            return MainGame.placeholderTexture;
-        }
-
-        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(
-            (int)DEFAULT_WIDTH, (int)DEFAULT_HEIGHT,
-            com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888
-        );
-        pixmap.setColor(0.65f, 0.45f, 0.25f, 1f); // Cor marrom
-        pixmap.fill();
-        pixmap.setColor(0.55f, 0.35f, 0.15f, 1f); // Marrom mais escuro
-        for (int i = 0; i < DEFAULT_WIDTH; i += 10) {
-            pixmap.drawLine(i, 0, i, (int)DEFAULT_HEIGHT);
-        }
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        Gdx.app.log("BotLog", "Placeholder criado");
-        return texture;
-    }
-
-    public void dispose() {
-        if (texture != null && texture != MainGame.placeholderTexture) {
-            texture.dispose();
-            // --- CORREÇÃO APLICADA AQUI ---
-            Gdx.app.log("BotLog", "Textura disposada");
-        }
-    }
 }
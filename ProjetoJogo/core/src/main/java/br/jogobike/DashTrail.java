@@ -0,0 +1,72 @@
+package br.jogobike;
+
+// Rastro de velocidade do jogador num buffer circular de capacidade fixa.
+// Todas as linhas vivem o mesmo tempo, então a mais antiga é sempre a primeira a
+// sumir: basta avançar o início do anel. Se o anel enche, a mais antiga é sobrescrita.
+public class DashTrail {
+    private static final float SPEED = 1000f;
+    private static final float START_ALPHA = 0.7f;
+    private static final float FADE_SPEED = 3.0f;
+
+    public final float[] x;
+    public final float[] y;
+    public final float[] length;
+    public final float[] alpha;
+
+    private final int capacity;
+    private int head = 0;  // índice da linha mais antiga
+    private int count = 0;
+
+    public DashTrail(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        length = new float[capacity];
+        alpha = new float[capacity];
+    }
+
+    public void emit(float startX, float startY, float lineLength) {
+        int i;
+        if (count == capacity) {
+            i = head;
+            head = (head + 1) % capacity;
+        } else {
+            i = (head + count) % capacity;
+            count++;
+        }
+        x[i] = startX;
+        y[i] = startY;
+        length[i] = lineLength;
+        alpha[i] = START_ALPHA;
+    }
+
+    public void update(float delta) {
+        for (int n = 0; n < count; n++) {
+            int i = (head + n) % capacity;
+            x[i] -= SPEED * delta;
+            alpha[i] -= FADE_SPEED * delta;
+        }
+        while (count > 0 && alpha[head] <= 0) {
+            head = (head + 1) % capacity;
+            count--;
+        }
+    }
+
+    // Índice no array da n-ésima linha viva (0 = mais antiga)
+    public int index(int n) {
+        return (head + n) % capacity;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
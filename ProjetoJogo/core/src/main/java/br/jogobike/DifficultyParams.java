@@ -0,0 +1,51 @@
+package br.jogobike;
+
+// Constantes de balanceamento usadas pelo GameWorld. Os valores padrão são os do jogo;
+// o DifficultySimulator cria variações para comparar curvas de dificuldade.
+public class DifficultyParams {
+    // Física base do jogador
+    public float baseMaxSpeed = 400f;
+    public float baseAcceleration = 280f;
+    public float baseFriction = 180f;
+    public float baseDriftSpeed = 190f;
+
+    // Velocidade base dos obstáculos
+    public float rockBaseSpeed = 220f;
+    public float botBaseSpeed = 200f;
+
+    // Escala: dificuldade = 1 + (pontos / 100) * perHundredPoints, limitada a maxScalar
+    public float perHundredPoints = 0.05f;
+    public float maxScalar = 2.5f;
+
+    // Modo sem fim: chance de cada metade de tela receber um padrão de pedras (x 0.6..1.0 conforme avança)
+    public float endlessDensity = 1f;
+
+    public static DifficultyParams defaults() {
+        return new DifficultyParams();
+    }
+
+    public DifficultyParams copy() {
+        DifficultyParams p = new DifficultyParams();
+        p.baseMaxSpeed = baseMaxSpeed;
+        p.baseAcceleration = baseAcceleration;
+        p.baseFriction = baseFriction;
+        p.baseDriftSpeed = baseDriftSpeed;
+        p.rockBaseSpeed = rockBaseSpeed;
+        p.botBaseSpeed = botBaseSpeed;
+        p.perHundredPoints = perHundredPoints;
+        p.maxScalar = maxScalar;
+        p.endlessDensity = endlessDensity;
+        return p;
+    }
+
+    public float scalarFor(int pontos) {
+        return Math.min(maxScalar, 1.0f + (pontos / 100f) * perHundredPoints);
+    }
+
+    @Override
+    public String toString() {
+        return "por100=" + perHundredPoints + " max=" + maxScalar
+            + " vel=" + baseMaxSpeed + " acel=" + baseAcceleration
+            + " pedra=" + rockBaseSpeed + " tronco=" + botBaseSpeed;
+    }
+}
@@ -0,0 +1,324 @@
+package br.jogobike;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+// Simulação Monte Carlo da curva de dificuldade: roda milhares de GameWorlds com
+// sementes fixas e um piloto automático, em todos os núcleos (ForkJoinPool), e
+// resume a distribuição de pontos, tempo de sobrevivência e tempo até a meta da Fase 1.
+// Todas as variações de parâmetros usam as mesmas sementes, então as diferenças
+// entre linhas vêm dos parâmetros e não da sorte.
+//
+// Uso: DifficultySimulator [--runs N] [--time segundos] [--level 1|2]
+//                          [--driver heuristic|random] [--seed S] [--threads T] [--single]
+public class DifficultySimulator {
+
+    // --- Pilotos automáticos ---
+    public interface Driver {
+        int decide(GameWorld world);
+    }
+
+    public interface DriverFactory {
+        Driver create(long seed);
+    }
+
+    // Acelera e desvia do obstáculo mais próximo que esteja na mesma faixa
+    public static class HeuristicDriver implements Driver {
+        private static final float LOOKAHEAD = 260f;
+        private static final float MARGIN = 12f;
+
+        @Override
+        public int decide(GameWorld world) {
+            Rectangle player = world.getPlayerRect();
+
+            Rectangle threat = null;
+            float threatDistance = Float.MAX_VALUE;
+
+            BotLog bot = world.getBot();
+            if (bot != null && bot.getAlpha() >= 1f) {
+                float distance = distanceAhead(player, bot.rect);
+                if (distance < threatDistance) {
+                    threat = bot.rect;
+                    threatDistance = distance;
+                }
+            }
+            Array<GameWorld.Rock> rocks = world.getRocks();
+            for (int i = 0; i < rocks.size; i++) {
+                Rectangle rect = rocks.get(i).rect;
+                float distance = distanceAhead(player, rect);
+                if (distance < threatDistance) {
+                    threat = rect;
+                    threatDistance = distance;
+                }
+            }
+
+            // Fica longe da avalanche sem encostar na borda direita
+            int mask = player.x < MainGame.VIRTUAL_WIDTH * 0.6f ? InputRecording.ACCELERATE : 0;
+            if (threat != null) {
+                // Vai para o lado alcançável que exige menos deslocamento (estável: não oscila)
+                float collisionOffsetY = player.y - world.getPlayerY();
+                float minY = world.getTrackBottom() + collisionOffsetY;
+                float maxY = world.getTrackTop() - world.getPlayerHeight() + collisionOffsetY;
+                float targetUp = threat.y + threat.height + MARGIN;
+                float targetDown = threat.y - player.height - MARGIN;
+                float costUp = targetUp <= maxY ? targetUp - player.y : Float.MAX_VALUE;
+                float costDown = targetDown >= minY ? player.y - targetDown : Float.MAX_VALUE;
+                if (costUp <= costDown) {
+                    mask |= InputRecording.UP;
+                } else {
+                    mask |= InputRecording.DOWN;
+                }
+            }
+            return mask;
+        }
+
+        // Distância horizontal até um obstáculo à frente que cruza a faixa do jogador
+        private float distanceAhead(Rectangle player, Rectangle obstacle) {
+            if (obstacle.y > player.y + player.height + MARGIN || obstacle.y + obstacle.height < player.y - MARGIN) {
+                return Float.MAX_VALUE;
+            }
+            float distance = obstacle.x - (player.x + player.width);
+            if (distance < -obstacle.width || distance > LOOKAHEAD) {
+                return Float.MAX_VALUE;
+            }
+            return distance;
+        }
+    }
+
+    // Segura botões aleatórios por 0.2 a 1.0 segundo (acelera em ~70% do tempo)
+    public static class RandomDriver implements Driver {
+        private final Random random;
+        private int mask = 0;
+        private int ticksLeft = 0;
+
+        public RandomDriver(long seed) {
+            this.random = new Random(seed ^ 0x5DEECE66DL);
+        }
+
+        @Override
+        public int decide(GameWorld world) {
+            if (ticksLeft-- <= 0) {
+                ticksLeft = (int) ((0.2f + random.nextFloat() * 0.8f) / GameScreen.SIM_STEP);
+                mask = random.nextFloat() < 0.7f ? InputRecording.ACCELERATE : 0;
+                float vertical = random.nextFloat();
+                if (vertical < 0.3f) mask |= InputRecording.UP;
+                else if (vertical < 0.6f) mask |= InputRecording.DOWN;
+            }
+            return mask;
+        }
+    }
+
+    // --- Resultados de um conjunto de parâmetros ---
+    public static class Result {
+        public final DifficultyParams params;
+        public final int[] score;
+        public final float[] survival;   // segundos simulados até o game over (ou até o limite)
+        public final float[] timeToGoal; // segundos até PONTUACAO_LIMITE_FASE1, NaN se não chegou
+        public final int[] obstacleHits;  // danos por tronco/pedra (eventos GameEvents.DAMAGE)
+        public final int[] avalancheHits; // danos pela avalanche (GameEvents.AVALANCHE_HIT)
+
+        Result(DifficultyParams params, int runs) {
+            this.params = params;
+            this.score = new int[runs];
+            this.survival = new float[runs];
+            this.timeToGoal = new float[runs];
+            this.obstacleHits = new int[runs];
+            this.avalancheHits = new int[runs];
+        }
+    }
+
+    private final int runs;
+    private final float maxSeconds;
+    private final int level;
+    private final long baseSeed;
+    private final DriverFactory driverFactory;
+    private final ForkJoinPool pool;
+
+    public DifficultySimulator(int runs, float maxSeconds, int level, long baseSeed, DriverFactory driverFactory, ForkJoinPool pool) {
+        this.runs = runs;
+        this.maxSeconds = maxSeconds;
+        this.level = level;
+        this.baseSeed = baseSeed;
+        this.driverFactory = driverFactory;
+        this.pool = pool;
+    }
+
+    public Result simulate(DifficultyParams params) {
+        Result result = new Result(params, runs);
+        pool.invoke(new RunBatch(result, 0, runs));
+        return result;
+    }
+
+    private void runOne(Result result, int index) {
+        long seed = baseSeed + index;
+        GameWorld world = new GameWorld(level, seed, result.params);
+        Driver driver = driverFactory.create(seed);
+        world.getEvents().addListener((type, a, b, x, y) -> {
+            if (type == GameEvents.DAMAGE) result.obstacleHits[index]++;
+            else if (type == GameEvents.AVALANCHE_HIT) result.avalancheHits[index]++;
+        });
+        int maxTicks = (int) (maxSeconds / GameScreen.SIM_STEP);
+
+        int goalTick = -1;
+        int tick = 0;
+        while (tick < maxTicks && !world.isGameOver() && !world.isLevelComplete()) {
+            world.setInputMask(driver.decide(world));
+            world.update(GameScreen.SIM_STEP);
+            tick++;
+            if (goalTick < 0 && world.getPontos() >= GameWorld.PONTUACAO_LIMITE_FASE1) {
+                goalTick = tick;
+            }
+        }
+        result.score[index] = world.getPontos();
+        result.survival[index] = tick * GameScreen.SIM_STEP;
+        result.timeToGoal[index] = goalTick < 0 ? Float.NaN : goalTick * GameScreen.SIM_STEP;
+    }
+
+    // Divide o intervalo de corridas até lotes pequenos; cada corrida escreve só no seu índice
+    private class RunBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 4;
+        private final Result result;
+        private final int from, to;
+
+        RunBatch(Result result, int from, int to) {
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    runOne(result, i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RunBatch(result, from, mid), new RunBatch(result, mid, to));
+        }
+    }
+
+    // --- Relatório ---
+    public static void print(Result result, float maxSeconds) {
+        int runs = result.score.length;
+        float[] scores = new float[runs];
+        for (int i = 0; i < runs; i++) scores[i] = result.score[i];
+        float[] survival = result.survival.clone();
+
+        int reachedLimit = 0;
+        int survivedAll = 0;
+        float[] goals = new float[runs];
+        for (int i = 0; i < runs; i++) {
+            if (!Float.isNaN(result.timeToGoal[i])) goals[reachedLimit++] = result.timeToGoal[i];
+            if (result.survival[i] >= maxSeconds - GameScreen.SIM_STEP) survivedAll++;
+        }
+        goals = Arrays.copyOf(goals, reachedLimit);
+        long obstacleHits = 0;
+        long avalancheHits = 0;
+        for (int i = 0; i < runs; i++) {
+            obstacleHits += result.obstacleHits[i];
+            avalancheHits += result.avalancheHits[i];
+        }
+
+        System.out.println(result.params);
+        System.out.println(String.format(Locale.ROOT, "  pontos          %s", summary(scores)));
+        System.out.println(String.format(Locale.ROOT, "  sobrevivência s %s  (%.1f%% até o tempo máximo)",
+            summary(survival), 100f * survivedAll / runs));
+        System.out.println(String.format(Locale.ROOT, "  dano/corrida    obstáculos %.2f  avalanche %.2f",
+            obstacleHits / (float) runs, avalancheHits / (float) runs));
+        if (reachedLimit > 0) {
+            System.out.println(String.format(Locale.ROOT, "  meta %d pontos  %.1f%% das corridas, tempo %s",
+                GameWorld.PONTUACAO_LIMITE_FASE1, 100f * reachedLimit / runs, summary(goals)));
+        } else {
+            System.out.println(String.format(Locale.ROOT, "  meta %d pontos  nenhuma corrida chegou",
+                GameWorld.PONTUACAO_LIMITE_FASE1));
+        }
+    }
+
+    private static String summary(float[] values) {
+        Arrays.sort(values);
+        double sum = 0;
+        for (float v : values) sum += v;
+        return String.format(Locale.ROOT, "média %7.1f  p10 %7.1f  p50 %7.1f  p90 %7.1f",
+            sum / values.length, percentile(values, 0.1f), percentile(values, 0.5f), percentile(values, 0.9f));
+    }
+
+    private static float percentile(float[] sorted, float p) {
+        int index = Math.min(sorted.length - 1, (int) (p * sorted.length));
+        return sorted[index];
+    }
+
+    // Grade padrão de variações em torno dos valores atuais do jogo
+    private static List<DifficultyParams> defaultSweep() {
+        List<DifficultyParams> sweep = new ArrayList<>();
+        float[] perHundred = {0.03f, 0.05f, 0.08f};
+        float[] maxScalar = {2.0f, 2.5f, 3.0f};
+        for (float slope : perHundred) {
+            for (float max : maxScalar) {
+                DifficultyParams p = DifficultyParams.defaults();
+                p.perHundredPoints = slope;
+                p.maxScalar = max;
+                sweep.add(p);
+            }
+        }
+        return sweep;
+    }
+
+    public static void main(String[] args) {
+        int runs = 1000;
+        float maxSeconds = 300f;
+        int level = 1;
+        long seed = 1L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String driverName = "heuristic";
+        boolean single = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--runs")) runs = Integer.parseInt(args[++i]);
+            else if (arg.equals("--time")) maxSeconds = Float.parseFloat(args[++i]);
+            else if (arg.equals("--level")) level = Integer.parseInt(args[++i]);
+            else if (arg.equals("--seed")) seed = Long.parseLong(args[++i]);
+            else if (arg.equals("--threads")) threads = Integer.parseInt(args[++i]);
+            else if (arg.equals("--driver")) driverName = args[++i];
+            else if (arg.equals("--single")) single = true;
+            else {
+                System.err.println("Argumento desconhecido: " + arg);
+                System.exit(1);
+            }
+        }
+
+        DriverFactory factory;
+        if (driverName.equals("random")) {
+            factory = RandomDriver::new;
+        } else {
+            HeuristicDriver heuristic = new HeuristicDriver(); // sem estado: pode ser compartilhado
+            factory = s -> heuristic;
+        }
+
+        GameLog.setEnabled(false);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        DifficultySimulator simulator = new DifficultySimulator(runs, maxSeconds, level, seed, factory, pool);
+
+        List<DifficultyParams> sweep = single ? Arrays.asList(DifficultyParams.defaults()) : defaultSweep();
+        System.out.println(String.format(Locale.ROOT, "%d corridas x %d conjuntos, fase %d, até %.0f s, piloto %s, %d threads",
+            runs, sweep.size(), level, maxSeconds, driverName, threads));
+
+        long start = System.nanoTime();
+        for (DifficultyParams params : sweep) {
+            print(simulator.simulate(params), maxSeconds);
+        }
+        pool.shutdown();
+        System.out.println(String.format(Locale.ROOT, "Tempo total: %.1f s", (System.nanoTime() - start) / 1e9));
+    }
+}
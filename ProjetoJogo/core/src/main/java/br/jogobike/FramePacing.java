@@ -0,0 +1,18 @@
+package br.jogobike;
+
+// Ritmo de desenho pedido pelas telas. Só a jogatina precisa da taxa cheia: menu, transição e
+// jogo pausado desenham quase a mesma imagem a cada frame, então o launcher pode baixar o
+// limite de FPS nesses casos (e quando a janela perde o foco) para poupar CPU/GPU e bateria.
+// O core só avisa o modo; quem sabe mudar o limite é o backend (ver Lwjgl3FramePacing).
+// Sem launcher que implemente (testes, headless, benchmarks) fica o NONE, que não faz nada.
+public interface FramePacing {
+    enum Mode {
+        GAMEPLAY, // corrida rodando: limite normal do launcher
+        MENU,     // menu e tela de transição: animações leves, FPS baixo basta
+        PAUSED    // jogo pausado: imagem parada, só precisa responder ao input
+    }
+
+    FramePacing NONE = mode -> { };
+
+    void setMode(Mode mode);
+}
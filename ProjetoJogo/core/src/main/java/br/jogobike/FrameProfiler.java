@@ -0,0 +1,212 @@
+package br.jogobike;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import java.util.Arrays;
+
+// Medidor de tempo por fase do frame (desenho) e por subsistema do GameWorld.update.
+// Ligado/desligado com F3. Desligado, begin/end só testam um boolean.
+// Tempos são médias móveis das últimas WINDOW amostras; chamadas de desenho e vértices
+// vêm do GLProfiler (todas as chamadas GL) e do SpriteBatch (flushes do batch).
+// O GameRenderer junta várias fases num mesmo begin/end do batch; ligado, o perfil força um
+// flush no fim de cada fase de desenho, para que o desenho (e o tempo de CPU do flush) conte na
+// fase que o pediu e não na que fechou o batch. Isso soma algumas chamadas ao frame medido.
+public class FrameProfiler {
+    // --- Fases do GameRenderer.render ---
+    public static final int TRACK = 0;
+    public static final int BACKGROUND = 1;
+    public static final int AVALANCHE = 2;
+    public static final int EFFECTS = 3;
+    public static final int ENTITIES = 4;
+    public static final int UI = 5;
+    public static final int OVERLAYS = 6;
+    private static final int RENDER_PHASES = 7;
+
+    // --- Subsistemas do GameWorld.update (somados entre os passos do frame) ---
+    public static final int SIM_INPUT = 7;
+    public static final int SIM_AVALANCHE = 8;
+    public static final int SIM_WIND = 9;
+    public static final int SIM_PARALLAX = 10;
+    public static final int SIM_DASH = 11;
+    public static final int SIM_ROCKS = 12;
+    public static final int SIM_PLAYER = 13;
+    public static final int SIM_OBSTACLES = 14;
+
+    private static final String[] NAMES = {
+        "pista", "fundo", "avalanche", "vento/dash", "entidades", "ui", "overlays",
+        "sim input", "sim avalanche", "sim vento", "sim parallax", "sim dash",
+        "sim pedras", "sim jogador", "sim obstaculos"
+    };
+    private static final int PHASE_COUNT = NAMES.length;
+    private static final int WINDOW = 60;
+
+    private final SpriteBatch batch;
+    private GLProfiler glProfiler;
+    private boolean enabled = false;
+
+    // Amostras do frame atual
+    private final long[] startNanos = new long[PHASE_COUNT];
+    private final long[] frameNanos = new long[PHASE_COUNT];
+    private final int[] startDrawCalls = new int[RENDER_PHASES];
+    private final int[] startBatchCalls = new int[RENDER_PHASES];
+    private final float[] startVertices = new float[RENDER_PHASES];
+    private final int[] drawCalls = new int[RENDER_PHASES];
+    private final int[] batchCalls = new int[RENDER_PHASES];
+    private final int[] vertices = new int[RENDER_PHASES];
+
+    // Histórico para as médias móveis (em nanossegundos)
+    private final long[][] history = new long[PHASE_COUNT][WINDOW];
+    private final long[] historySum = new long[PHASE_COUNT];
+    private int cursor = 0;
+    private int samples = 0;
+
+    // Contagem de entidades (informada pelo renderer a cada frame)
+    private int snowCount, rockCount, dashCount;
+
+    private final StringBuilder text = new StringBuilder(1024);
+    private final Color panelColor = new Color(0f, 0f, 0f, 0.6f);
+
+    public FrameProfiler(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            if (glProfiler == null && Gdx.graphics != null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (glProfiler != null) {
+                glProfiler.enable();
+                glProfiler.reset();
+            }
+            resetHistory();
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void begin(int phase) {
+        if (!enabled) return;
+        if (phase < RENDER_PHASES) {
+            startBatchCalls[phase] = batch.totalRenderCalls;
+            if (glProfiler != null) {
+                startDrawCalls[phase] = glProfiler.getDrawCalls();
+                startVertices[phase] = glProfiler.getVertexCount().total;
+            }
+        }
+        startNanos[phase] = System.nanoTime();
+    }
+
+    public void end(int phase) {
+        if (!enabled) return;
+        if (phase < RENDER_PHASES && batch.isDrawing()) batch.flush();
+        frameNanos[phase] += System.nanoTime() - startNanos[phase];
+        if (phase < RENDER_PHASES) {
+            batchCalls[phase] += batch.totalRenderCalls - startBatchCalls[phase];
+            if (glProfiler != null) {
+                drawCalls[phase] += glProfiler.getDrawCalls() - startDrawCalls[phase];
+                vertices[phase] += (int) (glProfiler.getVertexCount().total - startVertices[phase]);
+            }
+        }
+    }
+
+    public void setEntityCounts(int snow, int rocks, int dash) {
+        this.snowCount = snow;
+        this.rockCount = rocks;
+        this.dashCount = dash;
+    }
+
+    // Fecha o frame: guarda as amostras no histórico e zera os contadores
+    public void endFrame() {
+        if (!enabled) return;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            historySum[i] += frameNanos[i] - history[i][cursor];
+            history[i][cursor] = frameNanos[i];
+            frameNanos[i] = 0;
+        }
+        cursor = (cursor + 1) % WINDOW;
+        if (samples < WINDOW) samples++;
+        if (glProfiler != null) glProfiler.reset();
+    }
+
+    private void resetHistory() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            Arrays.fill(history[i], 0L);
+            historySum[i] = 0;
+            frameNanos[i] = 0;
+        }
+        cursor = 0;
+        samples = 0;
+    }
+
+    // Desenha o painel: tempos são médias móveis, draws/batch/vértices são do frame atual.
+    public void draw(ShapeRenderer shapes, BitmapFont font, float x, float top) {
+        if (!enabled) return;
+        float lineHeight = 16f;
+        int lines = PHASE_COUNT + 4;
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(panelColor);
+        shapes.rect(x - 6, top - lines * lineHeight - 6, 420, lines * lineHeight + 12);
+        shapes.end();
+
+        text.setLength(0);
+        text.append("PERFIL (F3)  ms medio | draws | batch | vertices\n");
+        long renderTotal = 0, simTotal = 0;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            long avg = samples == 0 ? 0 : historySum[i] / samples;
+            if (i < RENDER_PHASES) renderTotal += avg; else simTotal += avg;
+            text.append(NAMES[i]).append(": ");
+            appendMillis(avg);
+            if (i < RENDER_PHASES) {
+                text.append(" | ").append(drawCalls[i])
+                    .append(" | ").append(batchCalls[i])
+                    .append(" | ").append(vertices[i]);
+            }
+            text.append('\n');
+        }
+        text.append("total desenho: ");
+        appendMillis(renderTotal);
+        text.append("  simulacao: ");
+        appendMillis(simTotal);
+        text.append('\n');
+        text.append("neve: ").append(snowCount)
+            .append("  pedras: ").append(rockCount)
+            .append("  dash: ").append(dashCount);
+
+        // Os contadores de GL/batch são zerados aqui para que o próprio painel não entre na conta
+        for (int i = 0; i < RENDER_PHASES; i++) {
+            drawCalls[i] = 0;
+            batchCalls[i] = 0;
+            vertices[i] = 0;
+        }
+
+        batch.begin();
+        font.setColor(Color.WHITE);
+        font.draw(batch, text, x, top);
+        batch.end();
+    }
+
+    // Formata nanos como "0.00" sem criar objetos
+    private void appendMillis(long nanos) {
+        long hundredths = (nanos + 5000) / 10000;
+        text.append(hundredths / 100).append('.');
+        long frac = hundredths % 100;
+        if (frac < 10) text.append('0');
+        text.append(frac);
+    }
+}
@@ -0,0 +1,111 @@
+package br.jogobike;
+
+import com.badlogic.gdx.utils.Array;
+
+// Eventos de jogo (dano, avalanche, pontos, fim de fase, game over) publicados pelo GameWorld
+// durante o passo e entregues aos ouvintes uma vez por passo, no fim do update.
+// Cada evento é um registro de primitivos (tipo, dois ints, uma posição) num anel
+// pré-alocado: publicar é só escrever nos arrays, sem objeto, String ou chamada de ouvinte
+// no meio da simulação. Se o anel encher num passo, os eventos excedentes são descartados
+// e contados em getDropped().
+// Os ouvintes rodam no thread da simulação (o SimulationThread, quando ligado); quem vive
+// no thread de desenho deve só copiar o que precisa e ler no próprio frame.
+public class GameEvents {
+    // --- Tipos (a, b, x, y de cada um) ---
+    public static final int DAMAGE = 0;          // a = vidas restantes, b = pontos; x, y = jogador
+    public static final int AVALANCHE_HIT = 1;   // a = vidas restantes, b = pontos; x, y = jogador
+    public static final int SCORE = 2;           // a = pontos ganhos, b = total; x, y = obstáculo desviado
+    public static final int LEVEL_COMPLETE = 3;  // a = fase, b = pontos
+    public static final int GAME_OVER = 4;       // a = fase, b = pontos
+
+    private static final String[] NAMES = {"dano", "avalanche", "pontos", "fase completa", "game over"};
+
+    public interface Listener {
+        void onEvent(int type, int a, int b, float x, float y);
+    }
+
+    // Loga os eventos que o GameWorld logava direto (registrado por padrão em cada GameWorld)
+    public static final Listener LOG = (type, a, b, x, y) -> {
+        switch (type) {
+            case DAMAGE: GameLog.info("GameWorld", "Dano! Vidas restantes: {}", a); break;
+            case AVALANCHE_HIT: GameLog.info("GameWorld", "Avalanche! Vidas restantes: {}", a); break;
+            case LEVEL_COMPLETE: GameLog.info("GameWorld", "NÍVEL {} COMPLETO! Sinalizando MainGame para Fase {}.", a, a + 1); break;
+            default: break;
+        }
+    };
+
+    private static final int DEFAULT_CAPACITY = 64; // um passo gera poucos eventos; sobra muito
+
+    private final int[] type;
+    private final int[] a;
+    private final int[] b;
+    private final float[] x;
+    private final float[] y;
+    private final int capacity;
+    private int head = 0;
+    private int count = 0;
+    private int dropped = 0;
+
+    private final Array<Listener> listeners = new Array<>(false, 4, Listener.class);
+
+    public GameEvents() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameEvents(int capacity) {
+        this.capacity = capacity;
+        type = new int[capacity];
+        a = new int[capacity];
+        b = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    public void publish(int eventType, int eventA, int eventB, float eventX, float eventY) {
+        if (count == capacity) {
+            dropped++;
+            return;
+        }
+        int i = (head + count) % capacity;
+        type[i] = eventType;
+        a[i] = eventA;
+        b[i] = eventB;
+        x[i] = eventX;
+        y[i] = eventY;
+        count++;
+    }
+
+    // Entrega os eventos do passo na ordem em que foram publicados e esvazia o anel.
+    // Um evento publicado por um ouvinte durante a entrega sai ainda nesta chamada.
+    public void drain() {
+        while (count > 0) {
+            int i = head;
+            head = (head + 1) % capacity;
+            count--;
+            for (int n = 0; n < listeners.size; n++) {
+                listeners.items[n].onEvent(type[i], a[i], b[i], x[i], y[i]);
+            }
+        }
+        head = 0;
+    }
+
+    public int pending() {
+        return count;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+
+    public static String name(int eventType) {
+        return eventType >= 0 && eventType < NAMES.length ? NAMES[eventType] : "evento " + eventType;
+    }
+}
@@ -0,0 +1,351 @@
+package br.jogobike;
+
+import com.badlogic.gdx.Gdx;
+
+// Log centralizado, com nível e mensagens parametrizadas ("Dano! Vidas restantes: {}").
+// Quem chama só testa o nível e copia tag, padrão e argumentos para um registro de uma fila
+// circular pré-alocada; montar a String e escrever (Gdx.app ou console, quando o GameWorld
+// roda sem backend) fica para o thread "GameLog". Abaixo do nível nada é feito, e os
+// argumentos long/double não viram objeto, então um log desligado não custa nada no frame.
+// A fila é limitada: se encher, a mensagem é descartada (e contada), nunca espera.
+public final class GameLog {
+    // Mesmos valores de Application.LOG_*
+    public static final int NONE = 0;
+    public static final int ERROR = 1;
+    public static final int INFO = 2;
+    public static final int DEBUG = 3;
+
+    private static final int CAPACITY = 1024;
+    private static final int MAX_ARGS = 3;
+    private static final int ARG_OBJECT = 0;
+    private static final int ARG_LONG = 1;
+    private static final int ARG_DOUBLE = 2;
+
+    private static volatile int level = INFO;
+
+    // --- Fila (protegida por LOCK; o escritor só segura o lock para copiar um registro) ---
+    private static final Object LOCK = new Object();
+    private static final Record[] ring = new Record[CAPACITY];
+    private static int head = 0;
+    private static int count = 0;
+    private static boolean writing = false;
+    private static long dropped = 0;
+    private static Thread writer;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) ring[i] = new Record();
+    }
+
+    private GameLog() {
+    }
+
+    public static void setLevel(int level) {
+        GameLog.level = level;
+    }
+
+    public static int getLevel() {
+        return level;
+    }
+
+    public static boolean isEnabled(int messageLevel) {
+        return messageLevel <= level;
+    }
+
+    // Simulações em lote desligam o log para não inundar o console
+    public static void setEnabled(boolean enabled) {
+        level = enabled ? INFO : NONE;
+    }
+
+    // "debug", "info", "error" ou "none" (opção log-level do launcher)
+    public static int parseLevel(String name, int fallback) {
+        switch (name.trim().toLowerCase()) {
+            case "none": return NONE;
+            case "error": return ERROR;
+            case "info": return INFO;
+            case "debug": return DEBUG;
+            default: return fallback;
+        }
+    }
+
+    // --- Mensagens prontas ---
+    public static void debug(String tag, String message) {
+        if (DEBUG > level) return;
+        synchronized (LOCK) {
+            if (claim(DEBUG, tag, message) != null) commit();
+        }
+    }
+
+    public static void info(String tag, String message) {
+        if (INFO > level) return;
+        synchronized (LOCK) {
+            if (claim(INFO, tag, message) != null) commit();
+        }
+    }
+
+    public static void error(String tag, String message) {
+        if (ERROR > level) return;
+        synchronized (LOCK) {
+            if (claim(ERROR, tag, message) != null) commit();
+        }
+    }
+
+    public static void error(String tag, String message, Throwable throwable) {
+        if (ERROR > level) return;
+        synchronized (LOCK) {
+            Record r = claim(ERROR, tag, message);
+            if (r == null) return;
+            r.throwable = throwable;
+            commit();
+        }
+    }
+
+    // --- Parametrizadas: cada {} do padrão recebe o próximo argumento ---
+    public static void debug(String tag, String pattern, long a) {
+        log(DEBUG, tag, pattern, a);
+    }
+
+    public static void info(String tag, String pattern, long a) {
+        log(INFO, tag, pattern, a);
+    }
+
+    public static void info(String tag, String pattern, long a, long b) {
+        if (INFO > level) return;
+        synchronized (LOCK) {
+            Record r = claim(INFO, tag, pattern);
+            if (r == null) return;
+            r.setLong(0, a);
+            r.setLong(1, b);
+            commit();
+        }
+    }
+
+    public static void info(String tag, String pattern, Object a) {
+        log(INFO, tag, pattern, a);
+    }
+
+    public static void info(String tag, String pattern, Object a, long b) {
+        if (INFO > level) return;
+        synchronized (LOCK) {
+            Record r = claim(INFO, tag, pattern);
+            if (r == null) return;
+            r.setObject(0, a);
+            r.setLong(1, b);
+            commit();
+        }
+    }
+
+    public static void info(String tag, String pattern, long a, double b, double c) {
+        if (INFO > level) return;
+        synchronized (LOCK) {
+            Record r = claim(INFO, tag, pattern);
+            if (r == null) return;
+            r.setLong(0, a);
+            r.setDouble(1, b);
+            r.setDouble(2, c);
+            commit();
+        }
+    }
+
+    public static void error(String tag, String pattern, Object a) {
+        log(ERROR, tag, pattern, a);
+    }
+
+    public static void log(int messageLevel, String tag, String pattern, long a) {
+        if (messageLevel > level) return;
+        synchronized (LOCK) {
+            Record r = claim(messageLevel, tag, pattern);
+            if (r == null) return;
+            r.setLong(0, a);
+            commit();
+        }
+    }
+
+    public static void log(int messageLevel, String tag, String pattern, Object a) {
+        if (messageLevel > level) return;
+        synchronized (LOCK) {
+            Record r = claim(messageLevel, tag, pattern);
+            if (r == null) return;
+            r.setObject(0, a);
+            commit();
+        }
+    }
+
+    // Espera o escritor esvaziar a fila (ao sair do jogo, antes de System.exit...)
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + 1000;
+        synchronized (LOCK) {
+            while ((count > 0 || writing) && writer != null && writer.isAlive()) {
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) return;
+                try {
+                    LOCK.wait(left);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public static long getDropped() {
+        synchronized (LOCK) {
+            return dropped;
+        }
+    }
+
+    // --- Fila ---
+    // Chamado com LOCK: reserva o próximo registro (null = fila cheia, mensagem descartada)
+    private static Record claim(int messageLevel, String tag, String pattern) {
+        if (count == CAPACITY) {
+            dropped++;
+            return null;
+        }
+        if (writer == null) startWriter();
+        Record r = ring[(head + count) % CAPACITY];
+        r.level = messageLevel;
+        r.tag = tag;
+        r.pattern = pattern;
+        r.argCount = 0;
+        r.throwable = null;
+        return r;
+    }
+
+    private static void commit() {
+        count++;
+        if (count == 1) LOCK.notifyAll(); // o escritor pode estar esperando a fila sair do vazio
+    }
+
+    private static void startWriter() {
+        writer = new Thread(GameLog::writeLoop, "GameLog");
+        writer.setDaemon(true); // não segura a JVM aberta; o gancho de saída esvazia o que sobrou
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::flush, "GameLog-flush"));
+    }
+
+    private static void writeLoop() {
+        Record current = new Record();
+        StringBuilder builder = new StringBuilder(128);
+        while (true) {
+            synchronized (LOCK) {
+                writing = false;
+                if (count == 0) LOCK.notifyAll(); // acorda quem está em flush()
+                while (count == 0) {
+                    try {
+                        LOCK.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                Record next = ring[head];
+                current.copyFrom(next);
+                next.clearReferences();
+                head = (head + 1) % CAPACITY;
+                count--;
+                writing = true;
+            }
+            write(current, builder);
+        }
+    }
+
+    private static void write(Record record, StringBuilder builder) {
+        builder.setLength(0);
+        record.format(builder);
+        String message = builder.toString();
+        try {
+            if (Gdx.app != null) {
+                // Direto no ApplicationLogger: o nível já foi decidido aqui, não pelo Application
+                if (record.level == ERROR) {
+                    if (record.throwable != null) {
+                        Gdx.app.getApplicationLogger().error(record.tag, message, record.throwable);
+                    } else {
+                        Gdx.app.getApplicationLogger().error(record.tag, message);
+                    }
+                } else if (record.level == DEBUG) {
+                    Gdx.app.getApplicationLogger().debug(record.tag, message);
+                } else {
+                    Gdx.app.getApplicationLogger().log(record.tag, message);
+                }
+            } else if (record.level == ERROR) {
+                System.err.println("[" + record.tag + "] " + message);
+                if (record.throwable != null) record.throwable.printStackTrace();
+            } else {
+                System.out.println("[" + record.tag + "] " + message);
+            }
+        } catch (RuntimeException e) {
+            // Logger quebrado não pode derrubar o escritor
+            e.printStackTrace();
+        }
+        record.clearReferences();
+    }
+
+    // Uma mensagem ainda não formatada: padrão + até MAX_ARGS argumentos, sem boxing
+    private static final class Record {
+        int level;
+        String tag;
+        String pattern;
+        int argCount;
+        final int[] kinds = new int[MAX_ARGS];
+        final long[] longs = new long[MAX_ARGS];
+        final double[] doubles = new double[MAX_ARGS];
+        final Object[] objects = new Object[MAX_ARGS];
+        Throwable throwable;
+
+        void setLong(int i, long value) {
+            kinds[i] = ARG_LONG;
+            longs[i] = value;
+            argCount = Math.max(argCount, i + 1);
+        }
+
+        void setDouble(int i, double value) {
+            kinds[i] = ARG_DOUBLE;
+            doubles[i] = value;
+            argCount = Math.max(argCount, i + 1);
+        }
+
+        void setObject(int i, Object value) {
+            kinds[i] = ARG_OBJECT;
+            objects[i] = value;
+            argCount = Math.max(argCount, i + 1);
+        }
+
+        void copyFrom(Record other) {
+            level = other.level;
+            tag = other.tag;
+            pattern = other.pattern;
+            argCount = other.argCount;
+            throwable = other.throwable;
+            for (int i = 0; i < other.argCount; i++) {
+                kinds[i] = other.kinds[i];
+                longs[i] = other.longs[i];
+                doubles[i] = other.doubles[i];
+                objects[i] = other.objects[i];
+            }
+        }
+
+        // Solta as referências para o GC (tag e padrão são literais, argumentos não)
+        void clearReferences() {
+            for (int i = 0; i < MAX_ARGS; i++) objects[i] = null;
+            throwable = null;
+        }
+
+        void format(StringBuilder out) {
+            int arg = 0;
+            int start = 0;
+            while (true) {
+                int mark = arg < argCount ? pattern.indexOf("{}", start) : -1;
+                if (mark < 0) {
+                    out.append(pattern, start, pattern.length());
+                    return;
+                }
+                out.append(pattern, start, mark);
+                switch (kinds[arg]) {
+                    case ARG_LONG: out.append(longs[arg]); break;
+                    case ARG_DOUBLE: out.append(doubles[arg]); break;
+                    default: out.append(objects[arg]); break;
+                }
+                arg++;
+                start = mark + 2;
+            }
+        }
+    }
+}
@@ -7,10 +7,13 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport; // Importa Viewport
 
@@ -18,33 +21,69 @@ public class GameRenderer {
 
     private MainGame game;
     private GameWorld world;
+    // Tudo que é desenhado vem de um WorldSnapshot: capturado aqui no modo normal ou
+    // publicado pelo SimulationThread no modo com thread de simulação
+    private final WorldSnapshot ownSnapshot = new WorldSnapshot();
+    private WorldSnapshot snap;
 
     // Utilitários de Desenho
     private OrthographicCamera camera;
     private FitViewport viewport;
-    private ShapeRenderer shapeRenderer;
+    private ShapeRenderer shapeRenderer; // só o painel do perfil (F3)
+    private SpritePrimitives primitives;  // formas do jogo, pelo SpriteBatch
+    private AvalancheMesh avalancheMesh;
 
     // Texturas
     private Texture background;
-    private Texture playerTexture;
-    private Texture heartTexture;
-    private Texture velocimetroTexture;
-    private Texture pauseButtonTexture;
-    private Texture pontosTexture;
-    private Texture rockTexture;
+    private final BackgroundCache backgroundCache = new BackgroundCache(); // céu + pista + fundo num FrameBuffer
+    private final ParallaxBackground parallax = new ParallaxBackground(MainGame.VIRTUAL_WIDTH);
+    private ParallaxBackground.Layer baseLayer; // a textura do backgroundCache, na velocidade do GameWorld
+    private float lastBackgroundOffsetX;
+    private boolean hasLastBackgroundOffset = false;
+    private int colorsLevel; // fase das cores atuais (defineLevelColors)
+    private String backgroundPath; // != null quando o fundo veio do game.assets
+
+    // --- Sprites (TextureAtlas gerado pela tarefa packTextures) ---
+    // Todos na mesma textura: entidades e ícones do HUD não forçam flush do SpriteBatch.
+    // Atlas e PNGs vêm do game.assets (compartilhados); só os placeholders são nossos.
+    private TextureAtlas spriteAtlas;
+    private final Array<String> acquiredSprites = new Array<>();
+    private final Array<Texture> placeholderTextures = new Array<>();
+    private TextureRegion playerRegion;
+    private TextureRegion heartRegion;
+    private TextureRegion velocimetroRegion;
+    private TextureRegion pauseButtonRegion;
+    private TextureRegion pontosRegion;
+    private TextureRegion rockRegion;
+    private TextureRegion botRegion;
 
     // UI de Pause
     private Rectangle pauseButtonRect;
     private final float PAUSE_BUTTON_W = 40f;
     private final float PAUSE_BUTTON_H = 40f;
     private Color pauseOverlayColor = new Color(0f, 0f, 0f, 0.7f);
-    private GlyphLayout glyphLayout;
+    private Color gameOverOverlayColor = new Color(0.5f, 0f, 0f, 0.9f);
+    private Color levelCompleteOverlayColor = new Color(0f, 0.5f, 0f, 0.9f);
+
+    // --- Textos do HUD ---
+    // Cada campo tem seu BitmapFontCache, remontado só quando o valor mostrado muda
+    private HudText pontosText;
+    private HudText speedText;
+    private HudText levelText;
+    private HudText invencivelText;
+    private GlyphLayout glyphLayout; // textos dos overlays
 
     // Alpha para o fade de pausa
     private float pauseFadeAlpha = 0f;
     private float gameOverFadeAlpha = 0f; // Para o overlay de Game Over
     private float levelCompleteFadeAlpha = 0f; // Para o overlay de Level Complete
 
+    // Interpolação entre o passo anterior e o atual da simulação (0..1)
+    private float alpha = 1f;
+
+    // --- Perfil por fase (F3) ---
+    private final FrameProfiler profiler;
+
     // --- Cores Dinâmicas por Fase ---
     private Color avalancheColor1, avalancheColor2, avalancheColor3;
     private Color trackBaseColor; // Cor base da pista (neve/gelo)
@@ -59,11 +98,22 @@ public class GameRenderer {
         camera.setToOrtho(false, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
 
         shapeRenderer = new ShapeRenderer();
+        avalancheMesh = new AvalancheMesh(MainGame.VIRTUAL_HEIGHT);
         glyphLayout = new GlyphLayout();
+        pontosText = new HudText(game.font, "", "", Align.left, true);
+        speedText = new HudText(game.font, "", " km/h", Align.left, true);
+        levelText = new HudText(game.font, "NIVEL ", "", Align.right, false);
+        invencivelText = new HudText(game.font, "", "", Align.left, false);
+        invencivelText.setLabel("INVENCIVEL!");
+        profiler = new FrameProfiler(game.batch);
+
+        ownSnapshot.capture(world);
+        snap = ownSnapshot;
 
         // Define as cores e carrega as texturas baseadas no nível inicial
         defineLevelColors();
-        loadTextures();
+        loadBackground();
+        loadSprites();
 
         // Botão de pause
         pauseButtonRect = new Rectangle(
@@ -75,7 +125,9 @@ public class GameRenderer {
     }
 
     private void defineLevelColors() {
-        if (world.getCurrentLevel() == 2) {
+        colorsLevel = snap.level;
+        backgroundCache.invalidate();
+        if (snap.level == 2) {
             // Cores da Neve (Fase 2 - Gelo/Montanha)
             avalancheColor1 = new Color(0.9f, 0.95f, 1f, 0.9f);  // Frente (Mais branca/azulada)
             avalancheColor2 = new Color(0.8f, 0.85f, 0.9f, 0.7f);  // Meio
@@ -92,136 +144,191 @@ public class GameRenderer {
         }
     }
 
-    private void loadTextures() {
-        try {
-            String backgroundPath;
-            if (world.getCurrentLevel() == 1) {
-                backgroundPath = "background.png";
-            } else {
-                backgroundPath = "MountainBackground.png";
-            }
-            if (background != null) background.dispose(); // Libera a textura antiga
-            background = new Texture(Gdx.files.internal(backgroundPath));
-
-            playerTexture = new Texture(Gdx.files.internal("player_bike.png"));
-            heartTexture = new Texture(Gdx.files.internal("heart.png"));
-            velocimetroTexture = new Texture(Gdx.files.internal("velocimetro.png"));
-
-            pauseButtonTexture = new Texture(Gdx.files.internal("pause.png"));
-            pontosTexture = new Texture(Gdx.files.internal("pontos.png"));
-
-            // --- Carrega textura da pedra (pode falhar se arquivo não existir) ---
-            try {
-                if (rockTexture != null) rockTexture.dispose();
-                rockTexture = new Texture(Gdx.files.internal("pedra.png"));
-            } catch (Exception ex) {
-                Gdx.app.error("GameRenderer", "Erro ao carregar pedra.png: " + ex.getMessage());
-                rockTexture = null; // fallback: renderer vai desenhar nada se não existir
-            }
+    // O fundo muda com a fase; os sprites não
+    private void loadBackground() {
+        releaseBackground(); // Libera a referência ao fundo antigo
+        String path = Assets.backgroundFor(snap.level);
+        if (game.assets.exists(path)) {
+            background = game.assets.acquire(path, Texture.class);
+            backgroundPath = path;
+            GameLog.info("GameRenderer", "Fundo (Nível {}) carregado", snap.level);
+        } else {
+            GameLog.error("GameRenderer", "Fundo não encontrado: {}", path);
+            background = createPlaceholderTexture((int)MainGame.VIRTUAL_WIDTH, (int)MainGame.VIRTUAL_HEIGHT, Color.GRAY);
+            placeholderTextures.add(background);
+        }
+    }
 
-            Gdx.app.log("GameRenderer", "Texturas (Nível " + world.getCurrentLevel() + ") carregadas");
+    private void releaseBackground() {
+        if (backgroundPath != null) {
+            game.assets.release(backgroundPath);
+            backgroundPath = null;
+        }
+        background = null;
+    }
 
-        } catch (Exception e) {
-            Gdx.app.error("GameRenderer", "Erro ao carregar texturas: " + e.getMessage());
-            // Texturas de placeholder para fallback
-            background = createPlaceholderTexture((int)MainGame.VIRTUAL_WIDTH, (int)MainGame.VIRTUAL_HEIGHT, Color.GRAY);
-            playerTexture = createPlaceholderTexture((int)world.getPlayerWidth(), (int)world.getPlayerHeight(), Color.BLUE);
-            heartTexture = createPlaceholderTexture(30, 30, Color.RED);
-            velocimetroTexture = createPlaceholderTexture(80, 40, Color.DARK_GRAY);
-            pauseButtonTexture = createPlaceholderTexture((int)PAUSE_BUTTON_W, (int)PAUSE_BUTTON_H, Color.LIGHT_GRAY);
-            pontosTexture = createPlaceholderTexture(70, 25, Color.YELLOW);
-            if (rockTexture == null) rockTexture = createPlaceholderTexture(48, 48, Color.DARK_GRAY);
+    private void loadSprites() {
+        if (game.assets.exists(Assets.SPRITE_ATLAS)) {
+            spriteAtlas = game.assets.acquire(Assets.SPRITE_ATLAS, TextureAtlas.class);
+            acquiredSprites.add(Assets.SPRITE_ATLAS);
+        } else {
+            GameLog.error("GameRenderer", Assets.SPRITE_ATLAS + " não encontrado (rode ./gradlew packTextures), usando os PNGs avulsos");
         }
+
+        playerRegion = findSprite("player_bike", (int)world.getPlayerWidth(), (int)world.getPlayerHeight(), Color.BLUE);
+        heartRegion = findSprite("heart", 30, 30, Color.RED);
+        velocimetroRegion = findSprite("velocimetro", 80, 40, Color.DARK_GRAY);
+        pauseButtonRegion = findSprite("pause", (int)PAUSE_BUTTON_W, (int)PAUSE_BUTTON_H, Color.LIGHT_GRAY);
+        pontosRegion = findSprite("pontos", 70, 25, Color.YELLOW);
+        rockRegion = findSprite("pedra", 48, 48, Color.DARK_GRAY);
+        botRegion = findSprite("tronco", 0, 0, null); // null = placeholder listrado do tronco
+        primitives = new SpritePrimitives(game.batch, spriteAtlas);
     }
 
-    public void render(float delta) {
-        // Checa se a cor do céu/fundo precisa ser atualizada
-        boolean shouldUpdateColors = false;
-        if (world.getCurrentLevel() == 2 && skyColor.b > 0.4f) { // Fase 1 é mais clara
-            shouldUpdateColors = true;
-        } else if (world.getCurrentLevel() == 1 && skyColor.b < 0.4f) { // Fase 2 é mais escura
-            shouldUpdateColors = true;
+    // Região do atlas; sem atlas, carrega o PNG avulso; sem PNG, cria um placeholder
+    private TextureRegion findSprite(String name, int placeholderWidth, int placeholderHeight, Color placeholderColor) {
+        if (spriteAtlas != null) {
+            TextureRegion region = spriteAtlas.findRegion(name);
+            if (region != null) return region;
+        }
+        String path = name + ".png";
+        if (game.assets.exists(path)) {
+            acquiredSprites.add(path);
+            return new TextureRegion(game.assets.acquire(path, Texture.class));
         }
+        GameLog.error("GameRenderer", "Sprite não encontrado: {}, usando placeholder", path);
+        Texture texture = placeholderColor == null
+            ? createLogPlaceholderTexture()
+            : createPlaceholderTexture(placeholderWidth, placeholderHeight, placeholderColor);
+        placeholderTextures.add(texture);
+        return new TextureRegion(texture);
+    }
 
-        if (shouldUpdateColors) {
+    // Modo normal: a simulação roda neste mesmo thread, então basta copiar o estado atual
+    public void render(float delta, float alpha) {
+        ownSnapshot.capture(world);
+        render(ownSnapshot, delta, alpha);
+    }
+
+    public void render(WorldSnapshot snapshot, float delta, float alpha) {
+        this.snap = snapshot;
+        this.alpha = alpha;
+
+        // Cores e fundo só mudam quando a fase muda
+        if (snap.level != colorsLevel) {
             defineLevelColors();
-            loadTextures();
+            loadBackground();
         }
 
         updatePauseFade(delta);
         updateGameOverFade(delta);
         updateLevelCompleteFade(delta);
 
-        // Limpa a tela com a cor do CÉU DINÂMICA
+        // 1. Céu, base da pista e fundo: compostos no FrameBuffer só quando mudam
+        camera.update();
+        profiler.begin(FrameProfiler.TRACK);
+        boolean hasArea = backgroundCache.ensure(game.batch, primitives, background, skyColor, trackBaseColor,
+            snap.trackTop, viewport.getScreenWidth(), viewport.getScreenHeight());
+        profiler.end(FrameProfiler.TRACK);
+        if (!hasArea) return; // janela minimizada: nada para desenhar
+        if (baseLayer == null) {
+            baseLayer = parallax.addLayer(backgroundCache.getTexture(), 1f, true);
+        } else {
+            baseLayer.setTexture(backgroundCache.getTexture()); // muda se o FrameBuffer foi recriado
+        }
+
+        // As faixas fora do viewport (FitViewport) ficam com a cor do céu
         Gdx.gl.glClearColor(skyColor.r, skyColor.g, skyColor.b, skyColor.a);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
         viewport.apply();
-        camera.update();
-
-        // 1. Desenhar a Pista de Neve/Gelo (Base do chão)
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        drawTrackBase();
 
-        // 2. Desenhar Background (Batch) - Montanha/Árvores
+        // O frame inteiro passa pelo SpriteBatch, em duas passadas separadas só pelo Mesh da
+        // avalanche (que tem shader próprio). Formas usam as regiões brancas do atlas.
         game.batch.setProjectionMatrix(camera.combined);
+        game.batch.setColor(Color.WHITE);
+
+        // --- Passada 1: fundo e neve (atrás da avalanche) ---
+        game.batch.begin();
+
+        // 2. Desenhar Background - Montanha/Árvores (já com céu e pista)
+        profiler.begin(FrameProfiler.BACKGROUND);
         drawBackground();
+        profiler.end(FrameProfiler.BACKGROUND);
 
-        // 3. Desenhar a Avalanche (ondas de neve/gelo)
+        // 3. Desenhar a Avalanche (partículas de neve e ondas de neve/gelo)
+        profiler.begin(FrameProfiler.AVALANCHE);
+        drawSnowParticles();
+        // Fecha a passada 1: o Mesh da avalanche tem shader próprio
+        game.batch.end();
         drawAvalanche();
-        drawWindAndDashEffects();
+        profiler.end(FrameProfiler.AVALANCHE);
 
-        // 4. Desenhar Entidades (Batch)
+        // --- Passada 2: efeitos, entidades, UI e overlays ---
         game.batch.begin();
+
+        profiler.begin(FrameProfiler.EFFECTS);
+        drawWindAndDashEffects();
+        profiler.end(FrameProfiler.EFFECTS);
+
+        // 4. Desenhar Entidades
+        profiler.begin(FrameProfiler.ENTITIES);
         // Desenha as pedras (somente Fase 2)
-        if (world.getCurrentLevel() == 2 && rockTexture != null) {
-            for (GameWorld.Rock r : world.getRocks()) {
-                game.batch.draw(rockTexture, r.x, r.y, r.width, r.height);
+        if (snap.level == 2) {
+            for (int i = 0; i < snap.rockCount; i++) {
+                game.batch.draw(rockRegion, snap.getRenderRockX(i, alpha), snap.rockY[i], snap.rockWidth[i], snap.rockHeight[i]);
             }
         }
 
         // Desenha tronco e jogador (mantendo ordem que você já tinha)
         drawBot();
         drawPlayer();
+        profiler.end(FrameProfiler.ENTITIES);
 
-        game.batch.end();
-
-        // 5. Desenhar UI (Batch e ShapeRenderer)
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
+        // 5. Desenhar UI
+        profiler.begin(FrameProfiler.UI);
         drawUI();
-        drawPauseButton();
+        profiler.end(FrameProfiler.UI);
 
+        profiler.begin(FrameProfiler.OVERLAYS);
         if (pauseFadeAlpha > 0) {
             drawPauseOverlay();
         }
         if (gameOverFadeAlpha > 0) {
             drawGameOverOverlay();
         }
-        if (world.isLevelComplete() || levelCompleteFadeAlpha > 0) {
+        if (snap.levelComplete || levelCompleteFadeAlpha > 0) {
             drawLevelCompleteOverlay();
         }
+        profiler.end(FrameProfiler.OVERLAYS);
+        game.batch.end();
 
-        Gdx.gl.glDisable(GL20.GL_BLEND);
+        // 6. Painel de perfil (F3)
+        if (profiler.isEnabled()) {
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            shapeRenderer.setProjectionMatrix(camera.combined);
+            profiler.setEntityCounts(snap.snowCount, snap.rockCount, snap.dashCount);
+            profiler.draw(shapeRenderer, game.font, 20, MainGame.VIRTUAL_HEIGHT - 90);
+            Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
     }
 
     private void updatePauseFade(float delta) {
-        if (world.isPaused()) {
+        if (snap.paused) {
             pauseFadeAlpha = Math.min(1.0f, pauseFadeAlpha + delta * 2.5f); // Fade in
         } else {
             pauseFadeAlpha = Math.max(0.0f, pauseFadeAlpha - delta * 2.5f); // Fade out
         }
     }
     private void updateGameOverFade(float delta) {
-        if (world.isGameOver()) {
+        if (snap.gameOver) {
             gameOverFadeAlpha = Math.min(1.0f, gameOverFadeAlpha + delta * 1.5f); // Fade in
         } else {
             gameOverFadeAlpha = Math.max(0.0f, gameOverFadeAlpha - delta * 1.5f); // Fade out
         }
     }
     private void updateLevelCompleteFade(float delta) {
-        if (world.isLevelComplete()) {
+        if (snap.levelComplete) {
             levelCompleteFadeAlpha = Math.min(1.0f, levelCompleteFadeAlpha + delta * 1.5f); // Fade in
         } else {
             levelCompleteFadeAlpha = Math.max(0.0f, levelCompleteFadeAlpha - delta * 1.5f); // Fade out
@@ -230,215 +337,170 @@ public class GameRenderer {
 
     // --- Métodos de Desenho ---
 
+    // O GameWorld só conta quanto o fundo de referência andou (offset que dá a volta a cada
+    // VIRTUAL_WIDTH); as camadas andam essa diferença vezes o seu fator
     private void drawBackground() {
-        game.batch.begin();
-        float x1 = world.getBackgroundOffsetX();
-        float x2 = world.getBackgroundOffsetX() + MainGame.VIRTUAL_WIDTH;
-        float x3 = world.getBackgroundOffsetX() - MainGame.VIRTUAL_WIDTH;
-
-        game.batch.draw(background, x1, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        game.batch.draw(background, x2, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        game.batch.draw(background, x3, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        game.batch.end();
+        float offsetX = snap.getRenderBackgroundOffsetX(alpha);
+        if (hasLastBackgroundOffset) {
+            float dx = offsetX - lastBackgroundOffsetX;
+            if (dx > MainGame.VIRTUAL_WIDTH / 2f) dx -= MainGame.VIRTUAL_WIDTH;
+            else if (dx < -MainGame.VIRTUAL_WIDTH / 2f) dx += MainGame.VIRTUAL_WIDTH;
+            parallax.scroll(dx);
+        } else {
+            parallax.scroll(offsetX);
+            hasLastBackgroundOffset = true;
+        }
+        lastBackgroundOffsetX = offsetX;
+        parallax.draw(game.batch);
     }
 
-    private void drawTrackBase() {
-        shapeRenderer.begin(ShapeType.Filled);
-        shapeRenderer.setColor(trackBaseColor); // Usa a cor da pista base
-        shapeRenderer.rect(0, 0, MainGame.VIRTUAL_WIDTH, world.getTrackTop());
-        shapeRenderer.end();
+    // Partículas de neve (arrays paralelos, copiados do SnowParticles), ainda dentro da passada 1
+    private void drawSnowParticles() {
+        float[] snowX = snap.snowX, snowY = snap.snowY, snowSize = snap.snowSize, snowAlpha = snap.snowAlpha;
+        for (int i = 0, n = snap.snowCount; i < n; i++) {
+            primitives.setColor(1, 1, 1, snowAlpha[i]);
+            primitives.circle(snowX[i], snowY[i], snowSize[i]);
+        }
+        game.batch.setColor(Color.WHITE);
     }
 
+    // Fora do batch: o Mesh da avalanche tem shader próprio
     private void drawAvalanche() {
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        shapeRenderer.begin(ShapeType.Filled);
-
-        // Partículas de neve (SnowEffect)
-        for (GameWorld.SnowEffect effect : world.getSnowEffects()) {
-            shapeRenderer.setColor(effect.color);
-            shapeRenderer.circle(effect.x, effect.y, effect.size);
-        }
-
-        float time = world.getAvalancheTimer();
-        float currentAvalancheHeight = world.getAvalancheHeight();
-
-        // Camada 3 (Fundo da avalanche, mais transparente)
-        shapeRenderer.setColor(avalancheColor3); // Usa a cor da Fase
-        for (float y = 0; y < currentAvalancheHeight; y += 2) {
-            float wave = (float) Math.sin(y * 0.05f + time * 0.8f) * 15f;
-            float wave2 = (float) Math.cos(y * 0.08f + time * 1.0f) * 10f;
-            float frontX = GameWorld.LARGURA_AVALANCHE * 0.8f + wave + wave2;
-            shapeRenderer.rect(0, y, frontX, 2);
-        }
-
-        // Camada 2 (Meio da avalanche)
-        shapeRenderer.setColor(avalancheColor2); // Usa a cor da Fase
-        for (float y = 0; y < currentAvalancheHeight; y += 2) {
-            float wave = (float) Math.sin(y * 0.08f + time * 1.5f) * 18f;
-            float wave2 = (float) Math.cos(y * 0.13f + time * 2.0f) * 9f;
-            float frontX = GameWorld.LARGURA_AVALANCHE * 0.9f + wave + wave2;
-            shapeRenderer.rect(0, y, frontX, 2);
-        }
-
-        // Camada 1 (Frente da avalanche, mais opaca)
-        shapeRenderer.setColor(avalancheColor1); // Usa a cor da Fase
-        for (float y = 0; y < currentAvalancheHeight; y += 1) {
-            float wave = (float) Math.sin(y * 0.12f + time * 2.2f) * 20f;
-            float wave2 = (float) Math.cos(y * 0.2f + time * 3.0f) * 10f;
-            float frontX = GameWorld.LARGURA_AVALANCHE + wave + wave2;
-            shapeRenderer.rect(0, y, frontX, 1);
-        }
-
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
+        // Camadas da avalanche (fundo, meio, frente) como triangle strips
+        avalancheMesh.update(snap.avalancheTimer, snap.avalancheHeight);
+        avalancheMesh.render(camera.combined, avalancheColor3, avalancheColor2, avalancheColor1);
     }
 
     private void drawWindAndDashEffects() {
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        shapeRenderer.begin(ShapeType.Filled);
-
         // Efeito de Vento
-        for (GameWorld.WindLine line : world.getWindLines()) {
-            if (line.isActive) {
-                shapeRenderer.setColor(1, 1, 1, line.alpha);
-                float angle = (float) (Math.sin(world.getWindTimer() * 1.5f + line.y * 0.02f) * 0.05f);
-                float endX = line.x + line.length;
-                float endY = line.y + angle * line.length;
-                shapeRenderer.rectLine(line.x, line.y, endX, endY, line.thickness);
-            }
+        // (o snapshot só guarda as linhas ativas)
+        for (int i = 0; i < snap.windCount; i++) {
+            float x = snap.windX[i], y = snap.windY[i], length = snap.windLength[i];
+            primitives.setColor(1, 1, 1, snap.windAlpha[i]);
+            float angle = (float) (Math.sin(snap.windTimer * 1.5f + y * 0.02f) * 0.05f);
+            float endX = x + length;
+            float endY = y + angle * length;
+            primitives.line(x, y, endX, endY, snap.windThickness[i]);
         }
 
-        // Efeito de Rastro (Dash)
-        for (GameWorld.PlayerDashLine line : world.getDashLines()) {
-            shapeRenderer.setColor(0.8f, 0.9f, 1f, line.alpha);
-            shapeRenderer.rectLine(line.x, line.y, line.x + line.length, line.y, 2.5f);
+        // Efeito de Rastro (Dash), da linha mais antiga para a mais nova
+        for (int i = 0; i < snap.dashCount; i++) {
+            primitives.setColor(0.8f, 0.9f, 1f, snap.dashAlpha[i]);
+            primitives.line(snap.dashX[i], snap.dashY[i], snap.dashX[i] + snap.dashLength[i], snap.dashY[i], 2.5f);
         }
 
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
+        game.batch.setColor(Color.WHITE);
     }
 
     private void drawPlayer() {
         // Efeito de piscar quando invencível
-        if (world.podeLevarDano() || (int)(world.getTempoInvencivel() * 10) % 2 == 0) {
+        if (snap.podeLevarDano || (int)(snap.tempoInvencivel * 10) % 2 == 0) {
 
-            float speedPercent = world.getPlayerSpeedX() / world.getMaxSpeed();
+            float speedPercent = snap.playerSpeedX / snap.maxSpeed;
             float tilt = MathUtils.clamp(speedPercent * 15f, -8f, 15f);
 
-            game.batch.draw(playerTexture,
-                world.getPlayerX(), world.getPlayerY(),
-                world.getPlayerWidth() / 2f, world.getPlayerHeight() / 2f,
-                world.getPlayerWidth(), world.getPlayerHeight(),
+            game.batch.draw(playerRegion,
+                snap.getRenderPlayerX(alpha), snap.getRenderPlayerY(alpha),
+                snap.playerWidth / 2f, snap.playerHeight / 2f,
+                snap.playerWidth, snap.playerHeight,
                 1f, 1f,
-                tilt,
-                0, 0,
-                playerTexture.getWidth(), playerTexture.getHeight(),
-                false, false);
+                tilt);
         }
     }
 
     private void drawBot() {
-        BotLog bot = world.getBot();
-        if (bot != null && bot.texture != null) {
-            game.batch.setColor(1, 1, 1, bot.getAlpha());
-            game.batch.draw(bot.texture, bot.getX(), bot.getY(), bot.getWidth(), bot.getHeight());
+        if (snap.hasBot) {
+            game.batch.setColor(1, 1, 1, snap.botAlpha);
+            game.batch.draw(botRegion, snap.getRenderBotX(alpha), snap.getRenderBotY(alpha), snap.botWidth, snap.botHeight);
             game.batch.setColor(Color.WHITE);
         }
     }
 
+    // Desenha primeiro todos os ícones (mesma textura do atlas) e depois todos os textos
+    // (textura da fonte): 2 flushes no HUD em vez de um por troca de textura.
     private void drawUI() {
-        game.batch.begin();
 
         float uiX = 10f;
-        float uiY = MainGame.VIRTUAL_HEIGHT - 20;
-
-        // Desenho dos Pontos
+        float pontosY = MainGame.VIRTUAL_HEIGHT - 20;
         float pontosIconW = 40f;
         float pontosIconH = 40f;
-        game.batch.draw(pontosTexture, uiX, uiY - pontosIconH, pontosIconW, pontosIconH);
-
-        String pontosText = "" + world.getPontos();
-        glyphLayout.setText(game.font, pontosText);
-        game.font.draw(game.batch, pontosText,
-            uiX + pontosIconW + 8,
-            uiY - pontosIconH / 2 + glyphLayout.height / 2);
+        float heartsY = pontosY - (pontosIconH + 15);
+        float heartSize = 30f;
+        float velocimetroY = heartsY - (heartSize + 5);
+        float velocimetroW = 40f;
+        float velocimetroH = 40f;
+        float statusY = velocimetroY - (velocimetroH + 10);
 
-        uiY -= (pontosIconH + 15);
+        // --- Ícones ---
+        // Desenho dos Pontos
+        game.batch.draw(pontosRegion, uiX, pontosY - pontosIconH, pontosIconW, pontosIconH);
 
         // Desenho das Vidas
-        int vidas = world.getVidas();
-        float heartSize = 30f;
+        int vidas = snap.vidas;
         for (int i = 0; i < vidas; i++) {
-            game.batch.draw(heartTexture, uiX + (i * (heartSize + 5)), uiY - heartSize, heartSize, heartSize);
+            game.batch.draw(heartRegion, uiX + (i * (heartSize + 5)), heartsY - heartSize, heartSize, heartSize);
         }
-        uiY -= (heartSize + 5);
 
         // Desenho do Velocímetro
-        float velocimetroW = 40f;
-        float velocimetroH = 40f;
-        game.batch.draw(velocimetroTexture, uiX, uiY - velocimetroH, velocimetroW, velocimetroH);
+        game.batch.draw(velocimetroRegion, uiX, velocimetroY - velocimetroH, velocimetroW, velocimetroH);
 
-        float currentSpeed = world.getPlayerSpeedX();
-        float displaySpeed = 50 + (currentSpeed / world.getBaseMaxSpeed()) * 100f;
-        displaySpeed = Math.max(50, displaySpeed);
+        // Botão de pause
+        game.batch.draw(pauseButtonRegion,
+            pauseButtonRect.x,
+            pauseButtonRect.y,
+            pauseButtonRect.width,
+            pauseButtonRect.height);
 
-        String speedText = String.format("%.0f km/h", displaySpeed);
-        glyphLayout.setText(game.font, speedText);
-        game.font.draw(game.batch, speedText,
-            uiX + velocimetroW + 8,
-            uiY - velocimetroH / 2 + glyphLayout.height / 2);
+        // --- Textos ---
+        pontosText.setPosition(uiX + pontosIconW + 8, pontosY - pontosIconH / 2);
+        pontosText.setValue(snap.pontos);
+        pontosText.draw(game.batch);
 
-        uiY -= (velocimetroH + 10);
+        float currentSpeed = snap.playerSpeedX;
+        float displaySpeed = 50 + (currentSpeed / snap.baseMaxSpeed) * 100f;
+        displaySpeed = Math.max(50, displaySpeed);
+
+        speedText.setPosition(uiX + velocimetroW + 8, velocimetroY - velocimetroH / 2);
+        speedText.setValue(Math.round(displaySpeed));
+        speedText.draw(game.batch);
 
         // Status de Invencibilidade
-        if (!world.podeLevarDano()) {
-            game.font.draw(game.batch, "INVENCIVEL!", uiX, uiY);
+        if (!snap.podeLevarDano) {
+            invencivelText.setPosition(uiX, statusY);
+            invencivelText.draw(game.batch);
         }
 
         // Desenha o Nível Atual
-        String levelText = "NIVEL " + world.getCurrentLevel();
-        glyphLayout.setText(game.font, levelText);
-        game.font.draw(game.batch, levelText,
-            MainGame.VIRTUAL_WIDTH - glyphLayout.width - 10f,
-            MainGame.VIRTUAL_HEIGHT - 10f);
-
-        game.batch.end();
+        levelText.setPosition(MainGame.VIRTUAL_WIDTH - 10f, MainGame.VIRTUAL_HEIGHT - 10f);
+        levelText.setValue(snap.level);
+        levelText.draw(game.batch);
     }
 
     // --- Overlays ---
 
     private void drawPauseOverlay() {
-        shapeRenderer.begin(ShapeType.Filled);
         pauseOverlayColor.a = pauseFadeAlpha * 0.7f;
-        shapeRenderer.setColor(pauseOverlayColor);
-        shapeRenderer.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        shapeRenderer.end();
+        primitives.setColor(pauseOverlayColor);
+        primitives.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        game.batch.setColor(Color.WHITE);
 
         if (pauseFadeAlpha > 0.5f) {
-            game.batch.begin();
             game.font.setColor(Color.WHITE);
             String text = "PAUSADO";
             glyphLayout.setText(game.font, text);
             game.font.draw(game.batch, text,
                 (MainGame.VIRTUAL_WIDTH - glyphLayout.width) / 2,
                 (MainGame.VIRTUAL_HEIGHT + glyphLayout.height) / 2);
-            game.batch.end();
         }
     }
 
     private void drawGameOverOverlay() {
-        shapeRenderer.begin(ShapeType.Filled);
-        Color color = new Color(0.5f, 0f, 0f, gameOverFadeAlpha * 0.9f);
-        shapeRenderer.setColor(color);
-        shapeRenderer.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        shapeRenderer.end();
+        gameOverOverlayColor.a = gameOverFadeAlpha * 0.9f;
+        primitives.setColor(gameOverOverlayColor);
+        primitives.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        game.batch.setColor(Color.WHITE);
 
         if (gameOverFadeAlpha > 0.5f) {
-            game.batch.begin();
             game.font.setColor(Color.WHITE);
             String text = "GAME OVER";
             glyphLayout.setText(game.font, text);
@@ -451,22 +513,18 @@ public class GameRenderer {
             game.font.draw(game.batch, restartText,
                 (MainGame.VIRTUAL_WIDTH - glyphLayout.width) / 2,
                 (MainGame.VIRTUAL_HEIGHT + glyphLayout.height) / 2 - 50);
-
-            game.batch.end();
         }
     }
 
     private void drawLevelCompleteOverlay() {
-        shapeRenderer.begin(ShapeType.Filled);
-        Color color = new Color(0f, 0.5f, 0f, levelCompleteFadeAlpha * 0.9f);
-        shapeRenderer.setColor(color);
-        shapeRenderer.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        shapeRenderer.end();
+        levelCompleteOverlayColor.a = levelCompleteFadeAlpha * 0.9f;
+        primitives.setColor(levelCompleteOverlayColor);
+        primitives.rect(0, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        game.batch.setColor(Color.WHITE);
 
         if (levelCompleteFadeAlpha > 0.5f) {
-            game.batch.begin();
             game.font.setColor(Color.WHITE);
-            String text = world.getCurrentLevel() == 1 ? "FASE 1 COMPLETA!" : "TODAS AS FASES CONCLUIDAS!";
+            String text = snap.level == 1 ? "FASE 1 COMPLETA!" : "TODAS AS FASES CONCLUIDAS!";
             glyphLayout.setText(game.font, text);
             game.font.draw(game.batch, text,
                 (MainGame.VIRTUAL_WIDTH - glyphLayout.width) / 2,
@@ -477,8 +535,6 @@ public class GameRenderer {
             game.font.draw(game.batch, nextText,
                 (MainGame.VIRTUAL_WIDTH - glyphLayout.width) / 2,
                 (MainGame.VIRTUAL_HEIGHT + glyphLayout.height) / 2 - 50);
-
-            game.batch.end();
         }
     }
 
@@ -488,26 +544,23 @@ public class GameRenderer {
         return pauseButtonRect;
     }
 
-    private void drawPauseButton() {
-        game.batch.begin();
-        game.batch.draw(pauseButtonTexture,
-            pauseButtonRect.x,
-            pauseButtonRect.y,
-            pauseButtonRect.width,
-            pauseButtonRect.height);
-        game.batch.end();
-    }
-
     public void dispose() {
         shapeRenderer.dispose();
-        // Dispor todas as texturas carregadas para evitar vazamento de memória
-        if (background != null) background.dispose();
-        if (playerTexture != null) playerTexture.dispose();
-        if (heartTexture != null) heartTexture.dispose();
-        if (velocimetroTexture != null) velocimetroTexture.dispose();
-        if (pauseButtonTexture != null) pauseButtonTexture.dispose();
-        if (pontosTexture != null) pontosTexture.dispose();
-        if (rockTexture != null) rockTexture.dispose(); // libera pedra
+        primitives.dispose();
+        backgroundCache.dispose();
+        avalancheMesh.dispose();
+        profiler.setEnabled(false); // devolve o Gdx.gl original se o GLProfiler estava ligado
+        // Devolve o que veio do cache compartilhado e descarta só o que é nosso
+        releaseBackground();
+        for (String path : acquiredSprites) {
+            game.assets.release(path);
+        }
+        acquiredSprites.clear();
+        spriteAtlas = null;
+        for (Texture texture : placeholderTextures) {
+            texture.dispose();
+        }
+        placeholderTextures.clear();
     }
 
     private Texture createPlaceholderTexture(int width, int height, Color color) {
@@ -520,6 +573,31 @@ public class GameRenderer {
         return texture;
     }
 
+    // Placeholder do tronco: marrom com listras (era criado pelo BotLog)
+    private Texture createLogPlaceholderTexture() {
+        BotLog bot = world.getBot();
+        int width = (int) bot.getWidth();
+        int height = (int) bot.getHeight();
+        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(
+            width, height,
+            com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888
+        );
+        pixmap.setColor(0.65f, 0.45f, 0.25f, 1f); // Cor marrom
+        pixmap.fill();
+        pixmap.setColor(0.55f, 0.35f, 0.15f, 1f); // Marrom mais escuro
+        for (int i = 0; i < width; i += 10) {
+            pixmap.drawLine(i, 0, i, height);
+        }
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    // Último estado desenhado (o GameScreen decide as trocas de tela por ele no modo com thread)
+    public WorldSnapshot getSnapshot() {
+        return snap;
+    }
+
     public float getLevelCompleteFadeAlpha() {
         return levelCompleteFadeAlpha;
     }
@@ -528,6 +606,10 @@ public class GameRenderer {
         return gameOverFadeAlpha;
     }
 
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
     public FitViewport getViewport() {
         return viewport;
     }
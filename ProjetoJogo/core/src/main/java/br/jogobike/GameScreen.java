@@ -3,20 +3,73 @@ package br.jogobike;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
+import java.io.OutputStream;
 
 public class GameScreen implements Screen {
     private MainGame game;
     private GameWorld world;
     private GameRenderer renderer;
 
+    // --- Passo fixo da simulação ---
+    // A lógica roda sempre em passos de SIM_STEP, independente da taxa de atualização do monitor.
+    public static final float SIM_STEP = 1f / 120f;
+    private static final int MAX_STEPS_PER_FRAME = 8; // evita a "espiral da morte" após um travamento
+    // Abaixo de 1 / (MAX_STEPS_PER_FRAME * SIM_STEP) = 15 FPS um frame pede mais passos do que o
+    // limite e a corrida fica lenta; a folga cobre frames que o limitador de FPS entrega atrasados
+    public static final int MIN_GAMEPLAY_FPS = Math.round(1f / (MAX_STEPS_PER_FRAME * SIM_STEP)) + 5;
+    private boolean fixedTimestep = true;
+    private float accumulator = 0f;
+    private float renderAlpha = 1f; // fração do próximo passo, usada para interpolar o desenho
+
+    // --- Gravação / Replay ---
+    // Cada passo fixo grava o input; junto com a semente isso reproduz a corrida inteira.
+    private static final String REPLAY_FILE = "replays/ultima_corrida.rpl";
+    private InputRecording recording;
+    private InputRecording.Playback playback; // != null quando a tela está reproduzindo um replay
+
+    private final Vector3 touchPoint = new Vector3(); // reaproveitado a cada toque
+
+    // --- Simulação em thread próprio (opcional, MainGame.threadedSimulation) ---
+    // O GameWorld passa a ser do SimulationThread; esta tela só manda input/pausa e desenha
+    // o snapshot mais recente. null = simulação e desenho no mesmo thread, como sempre foi.
+    private SimulationThread simulation;
+    private SnapshotBuffer snapshots;
+
     // --- MUDANÇA: Construtor agora passa 'level' para o GameWorld ---
     public GameScreen(MainGame game, int level) {
+        this(game, level, false);
+    }
+
+    // endless = modo sem fim: pista gerada por chunks, sem fim de fase (termina no game over)
+    public GameScreen(MainGame game, int level, boolean endless) {
         this.game = game;
         // O GameWorld agora é criado com o nível (1 ou 2)
-        this.world = new GameWorld(game, level);
+        this.world = new GameWorld(level, System.nanoTime(), DifficultyParams.defaults(), endless);
         this.renderer = new GameRenderer(game, world);
+        this.world.setProfiler(renderer.getProfiler());
+        this.recording = new InputRecording(level, world.getSeed(), endless);
+        if (game.threadedSimulation) {
+            startSimulationThread();
+        }
+    }
+
+    // Reproduz uma corrida gravada (o teclado é ignorado)
+    public GameScreen(MainGame game, InputRecording replay) {
+        this.game = game;
+        this.world = new GameWorld(replay.getLevel(), replay.getSeed(), DifficultyParams.defaults(), replay.isEndless());
+        this.renderer = new GameRenderer(game, world);
+        this.world.setProfiler(renderer.getProfiler());
+        this.playback = replay.playback();
+    }
+
+    private void startSimulationThread() {
+        snapshots = new SnapshotBuffer();
+        simulation = new SimulationThread(world, snapshots, recording);
+        world.setProfiler(null); // o FrameProfiler não é thread-safe: no F3 só aparecem as fases de desenho
+        simulation.start();
+        GameLog.info("GameScreen", "Simulação rodando em thread próprio");
     }
 
     @Override
@@ -24,30 +77,26 @@ public class GameScreen implements Screen {
         // --- CONTROLE (INPUT) ---
         handleInput();
 
-        // --- LÓGICA (MODEL) ---
-        if (!world.isPaused()) {
-            world.update(delta);
+        if (simulation != null) {
+            renderThreaded(delta);
+        } else {
+            renderSameThread(delta);
         }
 
-        // --- DESENHO (VIEW) ---
-        // (O GameRenderer vai cuidar da cor do fundo na próxima etapa)
-        Gdx.gl.glClearColor(0.1f, 0.1f, 0.2f, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-        renderer.render(delta);
-
         // --- MUDANÇA: VERIFICA TRANSIÇÕES DE TELA COM FADE ---
+        // (pelo estado que acabou de ser desenhado; no modo com thread o GameWorld não é nosso)
+        WorldSnapshot state = renderer.getSnapshot();
 
         // 1. VERIFICA SE COMPLETOU A FASE 1 (com fade do renderer)
-        if (world.isLevelComplete() && renderer.getLevelCompleteFadeAlpha() >= 0.9f) {
-            Gdx.app.log("GameScreen", "Nível " + world.getCurrentLevel() + " Completo! Mostrando tela de transição...");
+        if (state.levelComplete && renderer.getLevelCompleteFadeAlpha() >= 0.9f) {
+            GameLog.info("GameScreen", "Nível {} Completo! Mostrando tela de transição...", state.level);
 
             // Mostrar tela de transição em vez de ir direto para próxima fase
             TransitionScreen transitionScreen = new TransitionScreen(
                 game,
-                world.getCurrentLevel(),
-                world.getCurrentLevel() + 1,
-                world.getPontos()
+                state.level,
+                state.level + 1,
+                state.pontos
             );
             game.setScreen(transitionScreen);
             dispose(); // Limpa os recursos da fase atual
@@ -55,35 +104,128 @@ public class GameScreen implements Screen {
         }
 
         // 2. VERIFICA GAME OVER (com fade do renderer)
-        if (world.isGameOver() && renderer.getGameOverFadeAlpha() >= 0.9f) {
-            Gdx.app.log("GameScreen", "Game Over! Pontos finais: " + world.getPontos());
+        if (state.gameOver && renderer.getGameOverFadeAlpha() >= 0.9f) {
+            GameLog.info("GameScreen", "Game Over! Pontos finais: {}", state.pontos);
             game.setScreen(new MenuScreen(game));
             dispose(); // Limpa os recursos do jogo
         }
     }
 
+    // Desenha o passo mais recente publicado pelo SimulationThread, sem esperar por ele.
+    // alpha vem do tempo desde a publicação, igual à fração do acumulador no modo normal.
+    private void renderThreaded(float delta) {
+        WorldSnapshot latest = snapshots.acquireLatest();
+        float alpha = latest.paused ? 1f
+            : MathUtils.clamp((System.nanoTime() - latest.publishNanos) / (SIM_STEP * 1_000_000_000f), 0f, 1f);
+
+        renderer.render(latest, delta, alpha); // o renderer limpa a tela com a cor do céu
+        renderer.getProfiler().endFrame();
+    }
+
+    private void renderSameThread(float delta) {
+        // --- LÓGICA (MODEL) ---
+        if (!world.isPaused()) {
+            if (fixedTimestep) {
+                stepSimulation(delta);
+            } else {
+                world.update(delta);
+                renderAlpha = 1f;
+            }
+        }
+
+        // --- DESENHO (VIEW) ---
+        // (O GameRenderer limpa a tela com a cor do céu)
+        renderer.render(delta, renderAlpha);
+        renderer.getProfiler().endFrame();
+    }
+
+    private void stepSimulation(float delta) {
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= SIM_STEP && steps < MAX_STEPS_PER_FRAME) {
+            if (playback != null) {
+                world.setInputMask(playback.hasNext() ? playback.next() : 0);
+            } else if (recording != null) {
+                recording.record(world.getInputMask());
+            }
+            world.update(SIM_STEP);
+            accumulator -= SIM_STEP;
+            steps++;
+        }
+        // Se ainda sobrou atraso depois do limite, descarta em vez de acumular para o próximo frame
+        if (accumulator >= SIM_STEP) {
+            accumulator %= SIM_STEP;
+        }
+        renderAlpha = accumulator / SIM_STEP;
+    }
+
+    public void setFixedTimestep(boolean fixedTimestep) {
+        this.fixedTimestep = fixedTimestep;
+        this.accumulator = 0f;
+        if (!fixedTimestep) {
+            recording = null; // sem passo fixo a gravação não seria reproduzível
+        }
+        this.renderAlpha = 1f;
+    }
+
+    // Sem dano nem troca de fase (medições); chamar antes do primeiro frame
+    public void setBenchmarkMode(boolean benchmarkMode) {
+        world.setBenchmarkMode(benchmarkMode);
+    }
+
     private void handleInput() {
         // Input de Pause (tecla e clique)
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.ESCAPE)) {
-            world.togglePause();
+            togglePause();
+        }
+
+        // Painel de perfil por fase
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F3)) {
+            renderer.getProfiler().toggle();
         }
 
         if (Gdx.input.justTouched()) {
-            Vector3 touch = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            renderer.getViewport().unproject(touch); // Usa a viewport do renderer
-            if (renderer.getPauseButtonRect().contains(touch.x, touch.y)) {
-                world.togglePause();
+            touchPoint.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+            renderer.getViewport().unproject(touchPoint); // Usa a viewport do renderer
+            if (renderer.getPauseButtonRect().contains(touchPoint.x, touchPoint.y)) {
+                togglePause();
             }
         }
 
-        // Se não estiver pausado, processa input de movimento
-        if (!world.isPaused()) {
+        // Se não estiver pausado (nem em replay), processa input de movimento
+        if (!isPaused() && playback == null) {
             boolean isMovingUp = Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.UP);
             boolean isMovingDown = Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.DOWN);
             boolean isAccelerating = Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.RIGHT);
             boolean isBraking = Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.LEFT);
 
-            world.handlePlayerInput(isMovingUp, isMovingDown, isAccelerating, isBraking);
+            if (simulation != null) {
+                simulation.setInputMask(InputRecording.mask(isMovingUp, isMovingDown, isAccelerating, isBraking));
+            } else {
+                world.handlePlayerInput(isMovingUp, isMovingDown, isAccelerating, isBraking);
+            }
+        }
+    }
+
+    private boolean isPaused() {
+        return simulation != null ? simulation.isPaused() : world.isPaused();
+    }
+
+    private void setPaused(boolean paused) {
+        if (simulation != null) {
+            simulation.setPaused(paused);
+        } else {
+            world.setPaused(paused);
+        }
+        game.framePacing.setMode(paused ? FramePacing.Mode.PAUSED : FramePacing.Mode.GAMEPLAY);
+    }
+
+    private void togglePause() {
+        setPaused(!isPaused());
+        if (isPaused()) {
+            game.pauseBackgroundMusic();
+        } else {
+            game.playBackgroundMusic();
         }
     }
 
@@ -95,13 +237,33 @@ public class GameScreen implements Screen {
     @Override
     public void dispose() {
         // Ocultado o dispose individual pois o setScreen fará isso
-        // Apenas para garantir, chamamos o dispose do renderer e world
+        // Apenas para garantir, chamamos o dispose do renderer (o world não guarda recursos)
+        if (simulation != null) {
+            simulation.stop(); // antes de salvar o replay: a gravação é escrita pelo thread da simulação
+            simulation = null;
+        }
         renderer.dispose();
-        world.dispose();
+        saveRecording();
+    }
+
+    private void saveRecording() {
+        if (recording == null || recording.getTickCount() == 0) return;
+        try (OutputStream out = Gdx.files.local(REPLAY_FILE).write(false)) {
+            recording.write(out);
+            GameLog.info("GameScreen", "Replay salvo em {} ({} bytes)", REPLAY_FILE, recording.getEncodedSize());
+        } catch (Exception e) {
+            GameLog.error("GameScreen", "Erro ao salvar replay: {}", e.getMessage());
+        }
+        recording = null;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
     }
 
     @Override
     public void show() {
+        game.framePacing.setMode(isPaused() ? FramePacing.Mode.PAUSED : FramePacing.Mode.GAMEPLAY);
         game.playBackgroundMusic();
     }
 
@@ -110,7 +272,8 @@ public class GameScreen implements Screen {
     }
 
     @Override public void pause() {
-        world.setPaused(true);
+        setPaused(true);
+        game.pauseBackgroundMusic();
     }
     @Override public void resume() {
         // Não despausa automaticamente, o jogador decide
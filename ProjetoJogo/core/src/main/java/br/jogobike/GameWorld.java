@@ -1,18 +1,16 @@
 package br.jogobike;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import java.util.ArrayList;
-import java.util.List;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 import java.util.Random;
 
+// Regras do jogo, sem texturas nem dependência do backend gráfico:
+// pode ser criado e atualizado numa JVM comum (simulações, CI).
 public class GameWorld {
-    private MainGame game;
     private Random random;
+    private final long seed; // toda a aleatoriedade da corrida sai desta semente
 
     // ESTADO DA FASE
     private int currentLevel; // Guarda o nível atual (1 ou 2)
@@ -20,6 +18,16 @@ public class GameWorld {
     private boolean isLevelComplete = false; // Sinaliza que a transição deve ocorrer
     // FIM: ESTADO DA FASE
 
+    // Modo de medição (benchmarks): sem dano e sem fim de fase, para a simulação nunca parar
+    private boolean benchmarkMode = false;
+    private FrameProfiler profiler; // opcional: mede o tempo de cada subsistema do update
+    private final GameEvents events = new GameEvents(); // dano, pontos, fim de fase: entregues no fim do update
+
+    // Modo sem fim: não há fim de fase e pedras/troncos vêm do TrackGenerator (null nas fases normais)
+    private final TrackGenerator trackGenerator;
+    private double trackDistance = 0; // quanto o cenário já rolou (unidades virtuais)
+    private float scrollSpeed = 0f;   // velocidade do cenário no último passo (updateParallax)
+
     // Estado do Jogo
     private int pontos;
     private int vidas = 3;
@@ -32,8 +40,23 @@ public class GameWorld {
     private float playerSpeedY = 0;
     private Rectangle playerRect;
 
+    // Estado anterior (para interpolação na renderização)
+    private float prevPlayerX, prevPlayerY;
+    private float prevBackgroundOffsetX = 0f;
+
+    // Input atual (aplicado a cada passo da simulação)
+    private boolean inputUp, inputDown, inputAccelerate, inputBrake;
+
     // Estado dos Obstáculos
     private BotLog bot;
+    private int botHandle = -1;
+
+    // Broadphase: grade uniforme sobre a área da pista
+    private SpatialHash<Object> broadphase;
+    private final Array<Object> nearbyObstacles = new Array<>(false, 16);
+    private static final float BROADPHASE_CELL_SIZE = 64f;
+    private static final float BROADPHASE_MIN_X = -200f;
+    private static final float BROADPHASE_MAX_X = MainGame.VIRTUAL_WIDTH + 700f; // tronco renasce até +600
 
     // Invencibilidade
     private boolean podeLevarDano = true;
@@ -52,11 +75,8 @@ public class GameWorld {
     private final float PLAYER_COLLISION_OFFSET_X = (PLAYER_WIDTH - PLAYER_COLLISION_WIDTH) / 2f;
     private final float PLAYER_COLLISION_OFFSET_Y = (PLAYER_HEIGHT - PLAYER_COLLISION_HEIGHT) / 2f;
 
-    // Constantes de Física Base
-    private final float BASE_MAX_SPEED = 400f;
-    private final float BASE_ACCELERATION = 280f;
-    private final float BASE_FRICTION = 180f;
-    private final float BASE_DRIFT_SPEED = 190f;
+    // Constantes de Física Base e escala de dificuldade
+    private final DifficultyParams params;
 
     // Variáveis de Física (que mudam com a dificuldade)
     private float maxSpeed;
@@ -81,21 +101,29 @@ public class GameWorld {
     public static final float ALTURA_AVALANCHE = 720f; // Altura Total da Tela
 
     // Efeitos Visuais
-    private List<SnowEffect> snowEffects;
-    private List<WindLine> windLines;
-    private List<PlayerDashLine> dashLines;
+    private SnowParticles snowParticles;
+    public static final int SNOW_CAPACITY = 512; // limite de partículas da avalanche
+    private static final float SNOW_SPAWN_RATE = 60f; // partículas por segundo (base)
+    private float snowSpawnAccumulator = 0f;
+    private Array<WindLine> windLines;
+    private DashTrail dashTrail;
+    private static final int DASH_TRAIL_CAPACITY = 32;
+    private static final float DASH_EMIT_RATE = 42f; // linhas por segundo (~70% dos frames a 60 FPS)
+    private float dashEmitAccumulator = 0f;
     private float avalancheTimer = 0f;
     private float avalancheIntensity = 0f;
     private float windTimer = 0f;
     private float backgroundOffsetX = 0f;
 
-    //  Lista de Pedras
-    private List<Rock> rocks;
+    //  Lista de Pedras (reaproveitadas via pool; remoção por troca com a última)
+    private Array<Rock> rocks;
+    private Pool<Rock> rockPool;
+    private static final int ROCK_POOL_INITIAL = 8;
+    private static final int ROCK_POOL_MAX = 64;
     private float rockSpawnTimer = 0f;
     private float nextRockSpawnInterval = 1.5f; // segundos
     private final float ROCK_MIN_SPAWN = 1.0f;
     private final float ROCK_MAX_SPAWN = 2.5f;
-    private final float ROCK_BASE_SPEED = 220f; // velocidade base da pedra
     private final float ROCK_WIDTH = 48f;
     private final float ROCK_HEIGHT = 48f;
 
@@ -107,16 +135,33 @@ public class GameWorld {
     // FIM CORREÇÃO
 
 
-    public GameWorld(MainGame game, int level) {
-        this.game = game;
+    public GameWorld(int level) {
+        this(level, System.nanoTime());
+    }
+
+    public GameWorld(int level, long seed) {
+        this(level, seed, DifficultyParams.defaults());
+    }
+
+    public GameWorld(int level, long seed, DifficultyParams params) {
+        this(level, seed, params, false);
+    }
+
+    public GameWorld(int level, long seed, DifficultyParams params, boolean endless) {
         this.currentLevel = level;
-        this.random = new Random();
+        this.params = params;
+        this.seed = seed;
+        this.random = new Random(seed);
         this.pontos = 0;
+        this.trackGenerator = endless ? new TrackGenerator(seed, params.endlessDensity) : null;
+        events.addListener(GameEvents.LOG);
 
         // Posições iniciais
         playerX = MainGame.VIRTUAL_WIDTH / 2f - PLAYER_WIDTH / 2f;
         float initialTrackY = (getTrackBottom() + getTrackTop()) / 2f;
         playerY = initialTrackY - PLAYER_HEIGHT / 2f;
+        prevPlayerX = playerX;
+        prevPlayerY = playerY;
 
         // Inicializar PlayerRect
         playerRect = new Rectangle(
@@ -128,19 +173,21 @@ public class GameWorld {
 
         // Inicializar Obstáculos
         float initialY = getTrackBottom() + 10f;
-        try {
-            Texture troncoTexture = new Texture(Gdx.files.internal("tronco.png"));
-            bot = new BotLog(troncoTexture, MainGame.VIRTUAL_WIDTH + 50, initialY);
-        } catch (Exception e) {
-            Gdx.app.error("GameWorld", "Erro ao carregar tronco.png, usando fallback: " + e.getMessage());
-            bot = new BotLog("tronco.png", MainGame.VIRTUAL_WIDTH + 50, initialY);
-        }
+        bot = new BotLog(MainGame.VIRTUAL_WIDTH + 50, initialY, random, params.botBaseSpeed);
 
         // Efeitos
-        snowEffects = new ArrayList<>();
-        windLines = new ArrayList<>();
-        dashLines = new ArrayList<>();
-        rocks = new ArrayList<>();
+        snowParticles = new SnowParticles(SNOW_CAPACITY);
+        windLines = new Array<>(WindLine.class);
+        dashTrail = new DashTrail(DASH_TRAIL_CAPACITY);
+        rocks = new Array<>(false, ROCK_POOL_INITIAL, Rock.class);
+        rockPool = new Pool<Rock>(ROCK_POOL_INITIAL, ROCK_POOL_MAX) {
+            @Override
+            protected Rock newObject() {
+                return new Rock();
+            }
+        };
+        rockPool.fill(ROCK_POOL_INITIAL);
+        createBroadphase();
         for (int i = 0; i < 15; i++) {
             windLines.add(new WindLine());
         }
@@ -151,13 +198,17 @@ public class GameWorld {
         // inicializa intervalo de spawn
         nextRockSpawnInterval = ROCK_MIN_SPAWN + random.nextFloat() * (ROCK_MAX_SPAWN - ROCK_MIN_SPAWN);
 
-        Gdx.app.log("GameWorld", "Fase " + currentLevel + " iniciada. Pista Y: " + getTrackBottom() + " a " + getTrackTop());
+        GameLog.info("GameWorld", "Fase {} iniciada. Pista Y: {} a {}", currentLevel, getTrackBottom(), getTrackTop());
     }
 
     public void update(float delta) {
+        savePreviousState();
         if (isGameOver || isLevelComplete) return;
 
+        profileBegin(FrameProfiler.SIM_INPUT);
         updateDifficulty();
+        applyPlayerInput(delta);
+        profileEnd(FrameProfiler.SIM_INPUT);
 
         if (!podeLevarDano) {
             tempoInvencivel -= delta;
@@ -172,17 +223,32 @@ public class GameWorld {
         float trackTop = getTrackTop();
 
         // Atualiza lógica dos efeitos visuais
+        profileBegin(FrameProfiler.SIM_AVALANCHE);
         updateAvalanche(delta);
+        profileEnd(FrameProfiler.SIM_AVALANCHE);
+        profileBegin(FrameProfiler.SIM_WIND);
         updateWindEffect(delta);
+        profileEnd(FrameProfiler.SIM_WIND);
+        profileBegin(FrameProfiler.SIM_PARALLAX);
         updateParallax(delta);
+        profileEnd(FrameProfiler.SIM_PARALLAX);
+        profileBegin(FrameProfiler.SIM_DASH);
         updateDashLines(delta);
-
-        // Atualiza pedras (APENAS na fase 2)
-        if (currentLevel == 2) {
+        profileEnd(FrameProfiler.SIM_DASH);
+
+        // Atualiza pedras (no modo sem fim vêm da pista gerada; senão, APENAS na fase 2)
+        if (trackGenerator != null) {
+            profileBegin(FrameProfiler.SIM_ROCKS);
+            updateTrack(delta, trackBottom, trackTop);
+            profileEnd(FrameProfiler.SIM_ROCKS);
+        } else if (currentLevel == 2) {
+            profileBegin(FrameProfiler.SIM_ROCKS);
             updateRocks(delta, trackBottom, trackTop);
+            profileEnd(FrameProfiler.SIM_ROCKS);
         }
 
         // Física e Movimento
+        profileBegin(FrameProfiler.SIM_PLAYER);
         playerX += playerSpeedX * delta;
         playerY += playerSpeedY * delta;
 
@@ -198,35 +264,72 @@ public class GameWorld {
             aplicarDanoAvalanche();
             tempoUltimoDanoAvalanche = 0f;
         }
+        profileEnd(FrameProfiler.SIM_PLAYER);
 
         // LÓGICA DO TRONCO
+        profileBegin(FrameProfiler.SIM_OBSTACLES);
         if (bot != null) {
             boolean foiDesviado = bot.update(delta, playerSpeedX, LARGURA_AVALANCHE, MainGame.VIRTUAL_WIDTH, currentDifficulty);
             if (foiDesviado) {
                 pontos += 10;
-                bot.respawn(MainGame.VIRTUAL_WIDTH, 50, 600, trackBottom, trackTop);
+                events.publish(GameEvents.SCORE, 10, pontos, bot.getX(), bot.getY());
+                respawnBot(trackBottom, trackTop);
 
                 // GATILHO DA FASE 2: Checagem de nível.
-                if (currentLevel == 1 && pontos >= PONTUACAO_LIMITE_FASE1 && !isLevelComplete) {
+                if (currentLevel == 1 && pontos >= PONTUACAO_LIMITE_FASE1 && !isLevelComplete && !benchmarkMode
+                    && trackGenerator == null) {
                     isLevelComplete = true; // SINALIZA A TRANSIÇÃO
-                    Gdx.app.log("GameWorld", "NÍVEL 1 COMPLETO! Sinalizando MainGame para Fase 2.");
+                    events.publish(GameEvents.LEVEL_COMPLETE, currentLevel, pontos, playerX, playerY);
                 }
             }
         }
-        // Colisão com tronco
-        if (bot != null && playerRect.overlaps(bot.rect) && podeLevarDano) {
-            aplicarDano();
-            bot.respawn(MainGame.VIRTUAL_WIDTH, 50, 600, trackBottom, trackTop);
+        if (bot != null) {
+            broadphase.move(botHandle, bot.rect);
         }
 
+        // Colisões (tronco e pedras) via broadphase
+        checkObstacleCollisions(trackBottom, trackTop);
+        profileEnd(FrameProfiler.SIM_OBSTACLES);
+
         // Checar Game Over
         if (vidas <= 0) {
             isGameOver = true;
+            events.publish(GameEvents.GAME_OVER, currentLevel, pontos, playerX, playerY);
         }
+
+        // Ouvintes (log, telemetria...) recebem os eventos do passo de uma vez, fora da lógica acima
+        events.drain();
     }
 
-    // Atualiza pedras, spawn e colisões
-    private void updateRocks(float delta, float trackBottom, float trackTop) {
+    // Só os obstáculos nas células do jogador passam pelo teste exato de sobreposição
+    void checkObstacleCollisions(float trackBottom, float trackTop) {
+        if (!podeLevarDano) return;
+
+        nearbyObstacles.clear();
+        broadphase.query(playerRect, nearbyObstacles);
+        for (int i = 0; i < nearbyObstacles.size && podeLevarDano; i++) {
+            Object obstacle = nearbyObstacles.get(i);
+            if (obstacle == bot) {
+                // Colisão com tronco
+                if (playerRect.overlaps(bot.rect) && !benchmarkMode) {
+                    aplicarDano();
+                    respawnBot(trackBottom, trackTop);
+                    broadphase.move(botHandle, bot.rect);
+                }
+            } else {
+                // Colisão com pedra
+                Rock r = (Rock) obstacle;
+                if (playerRect.overlaps(r.rect) && !benchmarkMode) {
+                    aplicarDano();
+                    removeRock(r.index);
+                }
+            }
+        }
+        nearbyObstacles.clear();
+    }
+
+    // Atualiza pedras e spawn (as colisões ficam em checkObstacleCollisions)
+    void updateRocks(float delta, float trackBottom, float trackTop) {
         // spawn
         rockSpawnTimer += delta;
         if (rockSpawnTimer >= nextRockSpawnInterval) {
@@ -235,10 +338,28 @@ public class GameWorld {
             nextRockSpawnInterval = ROCK_MIN_SPAWN + random.nextFloat() * (ROCK_MAX_SPAWN - ROCK_MIN_SPAWN);
         }
 
-        // atualizar posição e checar colisões
+        moveRocks(delta);
+    }
+
+    // Modo sem fim: lança as pedras da pista gerada cuja distância já chegou
+    void updateTrack(float delta, float trackBottom, float trackTop) {
+        trackDistance += scrollSpeed * delta;
+        trackGenerator.update(trackDistance);
+        float usableHeight = Math.max(0f, trackTop - trackBottom - ROCK_HEIGHT - 10f);
+        while (trackGenerator.poll(trackDistance)) {
+            float y = trackBottom + 5f + trackGenerator.polledLane * usableHeight;
+            float speed = params.rockBaseSpeed + trackGenerator.polledSpeed * 80f;
+            placeRock(MainGame.VIRTUAL_WIDTH + 30f, y, speed);
+        }
+        moveRocks(delta);
+    }
+
+    // Move as pedras e remove as que saíram da tela (as colisões ficam em checkObstacleCollisions)
+    private void moveRocks(float delta) {
         float speedMultiplier = currentDifficulty;
-        for (int i = rocks.size() - 1; i >= 0; i--) {
+        for (int i = rocks.size - 1; i >= 0; i--) {
             Rock r = rocks.get(i);
+            r.prevX = r.x;
             r.x -= r.speed * delta * speedMultiplier;
 
             // CORREÇÃO APLICADA: Atualiza o retângulo de colisão usando o offset
@@ -249,79 +370,134 @@ public class GameWorld {
 
             // Fora da tela? remover
             if (r.x + r.width < -50) {
-                rocks.remove(i);
+                removeRock(i);
                 continue;
             }
-
-            // Colisão com o jogador
-            if (playerRect.overlaps(r.rect) && podeLevarDano) {
-                aplicarDano();
-                rocks.remove(i);
-            }
+            broadphase.move(r.broadphaseHandle, r.rect);
         }
     }
 
-    private void spawnRock(float trackBottom, float trackTop) {
+    void spawnRock(float trackBottom, float trackTop) {
         // Spawn só na faixa de pista (trackBottom .. trackTop-ROCK_HEIGHT)
         float y = trackBottom + 5f + random.nextFloat() * Math.max(0f, (trackTop - trackBottom - ROCK_HEIGHT - 10f));
         float x = MainGame.VIRTUAL_WIDTH + 30f + random.nextFloat() * 80f; // surge da direita
-        float speed = ROCK_BASE_SPEED + random.nextFloat() * 80f; // varia um pouco
-        Rock r = new Rock(x, y, ROCK_WIDTH, ROCK_HEIGHT, speed);
+        float speed = params.rockBaseSpeed + random.nextFloat() * 80f; // varia um pouco
+        placeRock(x, y, speed);
+    }
+
+    // Tronco de volta à direita da tela; no modo sem fim a posição vem da sequência do gerador
+    private void respawnBot(float trackBottom, float trackTop) {
+        if (trackGenerator == null) {
+            bot.respawn(MainGame.VIRTUAL_WIDTH, 50, 600, trackBottom, trackTop);
+            return;
+        }
+        trackGenerator.nextLog();
+        bot.respawnAt(MainGame.VIRTUAL_WIDTH + 50 + trackGenerator.logGap * 550, trackGenerator.logLane,
+            trackGenerator.logSpeed, trackBottom, trackTop);
+    }
+
+    void placeRock(float x, float y, float speed) {
+        Rock r = rockPool.obtain();
+        r.init(x, y, ROCK_WIDTH, ROCK_HEIGHT, speed);
+        r.broadphaseHandle = broadphase.insert(r, r.rect);
+        r.index = rocks.size;
         rocks.add(r);
     }
 
+    // Array não ordenado: a última pedra ocupa o lugar da removida (sem deslocar o array)
+    private void removeRock(int index) {
+        Rock r = rocks.removeIndex(index);
+        if (index < rocks.size) rocks.get(index).index = index;
+        broadphase.remove(r.broadphaseHandle);
+        rockPool.free(r);
+    }
+
+    // Grade sobre a pista atual; o tronco e as pedras ativas se registram nela
+    private void createBroadphase() {
+        broadphase = new SpatialHash<>(BROADPHASE_MIN_X, getTrackBottom(), BROADPHASE_MAX_X, getTrackTop(), BROADPHASE_CELL_SIZE);
+        botHandle = broadphase.insert(bot, bot.rect);
+        for (int i = 0; i < rocks.size; i++) {
+            Rock r = rocks.get(i);
+            r.broadphaseHandle = broadphase.insert(r, r.rect);
+        }
+    }
+
     private void updateDifficulty() {
-        float scalar = 1.0f + (pontos / 100f) * 0.05f;
-        currentDifficulty = Math.min(2.5f, scalar);
+        currentDifficulty = params.scalarFor(pontos);
 
         // A dificuldade aumenta a velocidade dos obstáculos e o jogador fica mais rápido.
-        maxSpeed = BASE_MAX_SPEED * currentDifficulty;
-        acceleration = BASE_ACCELERATION * currentDifficulty;
-        friction = BASE_FRICTION * currentDifficulty;
-        driftSpeed = BASE_DRIFT_SPEED * currentDifficulty;
+        maxSpeed = params.baseMaxSpeed * currentDifficulty;
+        acceleration = params.baseAcceleration * currentDifficulty;
+        friction = params.baseFriction * currentDifficulty;
+        driftSpeed = params.baseDriftSpeed * currentDifficulty;
     }
 
 
+    // Guarda o input do frame; ele é aplicado em cada passo de update(delta)
     public void handlePlayerInput(boolean isMovingUp, boolean isMovingDown, boolean isAccelerating, boolean isBraking) {
+        inputUp = isMovingUp;
+        inputDown = isMovingDown;
+        inputAccelerate = isAccelerating;
+        inputBrake = isBraking;
+    }
+
+    // Input como máscara de bits (formato do InputRecording)
+    public int getInputMask() {
+        return InputRecording.mask(inputUp, inputDown, inputAccelerate, inputBrake);
+    }
+
+    public void setInputMask(int mask) {
+        handlePlayerInput(
+            (mask & InputRecording.UP) != 0,
+            (mask & InputRecording.DOWN) != 0,
+            (mask & InputRecording.ACCELERATE) != 0,
+            (mask & InputRecording.BRAKE) != 0);
+    }
+
+    private void applyPlayerInput(float delta) {
         // MOVIMENTO HORIZONTAL
-        if (isAccelerating) {
-            playerSpeedX += acceleration * Gdx.graphics.getDeltaTime();
+        if (inputAccelerate) {
+            playerSpeedX += acceleration * delta;
             playerSpeedX = Math.min(maxSpeed, playerSpeedX);
 
-            if (playerSpeedX > maxSpeed * 0.5f && random.nextFloat() > 0.3f) {
-                dashLines.add(new PlayerDashLine(
-                    playerX - 10f,
-                    playerY + PLAYER_HEIGHT / 2f
-                ));
+            if (playerSpeedX > maxSpeed * 0.5f) {
+                emitDashLines(delta);
             }
 
-        } else if (isBraking) {
-            playerSpeedX -= acceleration * 1.5f * Gdx.graphics.getDeltaTime();
+        } else if (inputBrake) {
+            playerSpeedX -= acceleration * 1.5f * delta;
             playerSpeedX = Math.max(-maxSpeed * 0.5f, playerSpeedX);
         } else {
-            playerSpeedX -= driftSpeed * Gdx.graphics.getDeltaTime();
+            playerSpeedX -= driftSpeed * delta;
         }
 
         if (playerSpeedX > 0) {
-            playerSpeedX = Math.max(0, playerSpeedX - friction * Gdx.graphics.getDeltaTime() * 0.5f);
+            playerSpeedX = Math.max(0, playerSpeedX - friction * delta * 0.5f);
         } else if (playerSpeedX < 0) {
-            playerSpeedX = Math.min(0, playerSpeedX + friction * Gdx.graphics.getDeltaTime() * 0.5f);
+            playerSpeedX = Math.min(0, playerSpeedX + friction * delta * 0.5f);
         }
 
         // MOVIMENTO VERTICAL
-        if (isMovingUp) {
+        if (inputUp) {
             playerSpeedY = maxSpeed * 0.7f;
-        } else if (isMovingDown) {
+        } else if (inputDown) {
             playerSpeedY = -maxSpeed * 0.7f;
         } else {
             if (playerSpeedY > 0) {
-                playerSpeedY = Math.max(0, playerSpeedY - friction * Gdx.graphics.getDeltaTime());
+                playerSpeedY = Math.max(0, playerSpeedY - friction * delta);
             } else if (playerSpeedY < 0) {
-                playerSpeedY = Math.min(0, playerSpeedY + friction * Gdx.graphics.getDeltaTime());
+                playerSpeedY = Math.min(0, playerSpeedY + friction * delta);
             }
         }
     }
 
+    private void savePreviousState() {
+        prevPlayerX = playerX;
+        prevPlayerY = playerY;
+        prevBackgroundOffsetX = backgroundOffsetX;
+        if (bot != null) bot.savePreviousPosition();
+    }
+
     private void updatePlayerRect() {
         playerRect.setPosition(
             playerX + PLAYER_COLLISION_OFFSET_X,
@@ -332,66 +508,69 @@ public class GameWorld {
     // --- Lógica de Dano ---
 
     private void aplicarDano() {
-        if (podeLevarDano) {
+        if (podeLevarDano && !benchmarkMode) {
             vidas--;
             pontos = Math.max(0, pontos - 20);
             podeLevarDano = false;
             tempoInvencivel = TEMPO_INVENCIBILIDADE;
             playerX = Math.min(MainGame.VIRTUAL_WIDTH - PLAYER_WIDTH - 100, playerX + 80);
             playerSpeedX = 100;
-            Gdx.app.log("GameWorld", "Dano! Vidas restantes: " + vidas);
+            events.publish(GameEvents.DAMAGE, vidas, pontos, playerX, playerY);
         }
     }
 
     private void aplicarDanoAvalanche() {
-        if (podeLevarDano) {
+        if (podeLevarDano && !benchmarkMode) {
             vidas--;
             pontos = Math.max(0, pontos - 15);
             podeLevarDano = false;
             tempoInvencivel = TEMPO_INVENCIBILIDADE;
             playerX = LARGURA_AVALANCHE + 30;
             playerSpeedX = 200;
-            Gdx.app.log("GameWorld", "Avalanche! Vidas restantes: " + vidas);
+            events.publish(GameEvents.AVALANCHE_HIT, vidas, pontos, playerX, playerY);
         }
     }
 
     // --- Lógica de Efeitos ---
-    private void updateAvalanche(float delta) {
+    void updateAvalanche(float delta) {
         avalancheTimer += delta;
         avalancheIntensity = Math.min(1.0f, avalancheTimer * 0.1f);
 
         // Usa a altura dinâmica para spawnar neve apenas na área de renderização da avalanche
         float currentAvalancheHeight = getAvalancheHeight();
 
-        if (random.nextFloat() < 0.9f + avalancheIntensity * 0.1f) {
-            snowEffects.add(new SnowEffect(currentAvalancheHeight));
-        }
-        for (int i = snowEffects.size() - 1; i >= 0; i--) {
-            SnowEffect effect = snowEffects.get(i);
-            effect.update(delta, currentAvalancheHeight);
-            if (effect.isDead()) {
-                snowEffects.remove(i);
-            }
+        // Emissão por tempo simulado (não por frame)
+        snowSpawnAccumulator += delta * SNOW_SPAWN_RATE * (0.9f + avalancheIntensity * 0.1f);
+        while (snowSpawnAccumulator >= 1f) {
+            snowSpawnAccumulator -= 1f;
+            snowParticles.spawn(random, currentAvalancheHeight, avalancheIntensity);
         }
+        snowParticles.update(delta, currentDifficulty, avalancheTimer);
     }
     private void updateWindEffect(float delta) {
         windTimer += delta;
-        for (WindLine line : windLines) {
-            line.update(delta, playerSpeedX);
+        for (int i = 0; i < windLines.size; i++) {
+            windLines.get(i).update(delta, playerSpeedX);
         }
     }
     private void updateDashLines(float delta) {
-        for (int i = dashLines.size() - 1; i >= 0; i--) {
-            PlayerDashLine line = dashLines.get(i);
-            line.update(delta);
-            if (line.isDead()) {
-                dashLines.remove(i);
-            }
+        dashTrail.update(delta);
+    }
+
+    // Emissão por tempo simulado: mesma densidade de rastro em qualquer taxa de passos
+    private void emitDashLines(float delta) {
+        dashEmitAccumulator += delta * DASH_EMIT_RATE;
+        while (dashEmitAccumulator >= 1f) {
+            dashEmitAccumulator -= 1f;
+            float y = playerY + PLAYER_HEIGHT / 2f + (random.nextFloat() - 0.5f) * (PLAYER_HEIGHT / 2f);
+            float length = 20f + random.nextFloat() * 20f;
+            dashTrail.emit(playerX - 10f, y, length);
         }
     }
     private void updateParallax(float delta) {
         float parallaxSpeedMultiplier = 0.5f + (playerSpeedX / (maxSpeed * 2f));
         float currentParallaxSpeed = 300f * parallaxSpeedMultiplier;
+        scrollSpeed = currentParallaxSpeed;
 
         backgroundOffsetX -= currentParallaxSpeed * delta;
         if (backgroundOffsetX < -MainGame.VIRTUAL_WIDTH) {
@@ -400,19 +579,10 @@ public class GameWorld {
     }
 
     // --- Controle de Pausa ---
+    // (A música é controlada pelo GameScreen)
     public void togglePause() {
         isPaused = !isPaused;
-        if (isPaused) {
-            game.pauseBackgroundMusic();
-        } else {
-            game.playBackgroundMusic();
-        }
-        Gdx.app.log("GameWorld", "Pausado: " + isPaused);
-    }
-
-    public void dispose() {
-        if (bot != null) bot.dispose();
-        // Não há textura de pedra aqui (renderer desenha a textura), então nada para disposar aqui.
+        GameLog.info("GameWorld", "Pausado: {}", isPaused);
     }
 
     // --- Getters Dinâmicos (CRUCIAIS PARA AS CORES DA FASE 2) ---
@@ -435,57 +605,73 @@ public class GameWorld {
     public float getPlayerX() { return playerX; }
     public float getPlayerY() { return playerY; }
     public float getPlayerSpeedX() { return playerSpeedX; }
+
+    // --- Getters interpolados (alpha = fração do passo fixo já acumulada) ---
+    public float getRenderPlayerX(float alpha) { return MathUtils.lerp(prevPlayerX, playerX, alpha); }
+    public float getRenderPlayerY(float alpha) { return MathUtils.lerp(prevPlayerY, playerY, alpha); }
+    public float getRenderBackgroundOffsetX(float alpha) {
+        float prev = prevBackgroundOffsetX;
+        // O offset "dá a volta" ao passar de -VIRTUAL_WIDTH; não interpola através do salto
+        if (backgroundOffsetX - prev > MainGame.VIRTUAL_WIDTH / 2f) {
+            prev += MainGame.VIRTUAL_WIDTH;
+        }
+        return MathUtils.lerp(prev, backgroundOffsetX, alpha);
+    }
+    public Rectangle getPlayerRect() { return playerRect; }
     public BotLog getBot() { return bot; }
     public boolean isPaused() { return isPaused; }
     public boolean isGameOver() { return isGameOver; }
     public boolean podeLevarDano() { return podeLevarDano; }
     public float getTempoInvencivel() { return tempoInvencivel; }
     public float getBackgroundOffsetX() { return backgroundOffsetX; }
-    public List<SnowEffect> getSnowEffects() { return snowEffects; }
-    public List<WindLine> getWindLines() { return windLines; }
-    public List<PlayerDashLine> getDashLines() { return dashLines; }
+    public SnowParticles getSnowParticles() { return snowParticles; }
+    public Array<WindLine> getWindLines() { return windLines; }
+    public DashTrail getDashTrail() { return dashTrail; }
     public float getAvalancheTimer() { return avalancheTimer; }
     public float getWindTimer() { return windTimer; }
     public float getPlayerWidth() { return PLAYER_WIDTH; }
     public float getPlayerHeight() { return PLAYER_HEIGHT; }
     public void setPaused(boolean paused) {
         isPaused = paused;
-        if (isPaused) game.pauseBackgroundMusic();
     }
     public float getDifficulty() { return currentDifficulty; }
     public float getMaxSpeed() { return maxSpeed; }
-    public float getBaseMaxSpeed() { return BASE_MAX_SPEED; }
+    public float getBaseMaxSpeed() { return params.baseMaxSpeed; }
+    public DifficultyParams getParams() { return params; }
     public boolean isLevelComplete() { return isLevelComplete; }
     public int getCurrentLevel() { return currentLevel; }
+    public long getSeed() { return seed; }
+    public GameEvents getEvents() { return events; }
+    public boolean isEndless() { return trackGenerator != null; }
+    public double getTrackDistance() { return trackDistance; }
+    public TrackGenerator getTrackGenerator() { return trackGenerator; }
 
     public void setCurrentLevel(int level) {
         this.currentLevel = level;
         this.isLevelComplete = false;
         // limpa pedras na troca de fase para evitar restos
+        rockPool.freeAll(rocks);
         this.rocks.clear();
-        Gdx.app.log("GameWorld", "Transição para Fase " + level + " concluída.");
+        createBroadphase(); // a pista muda de tamanho
+        GameLog.info("GameWorld", "Transição para Fase {} concluída.", level);
+    }
+    void setBenchmarkMode(boolean benchmarkMode) { this.benchmarkMode = benchmarkMode; }
+    public void setProfiler(FrameProfiler profiler) { this.profiler = profiler; }
+
+    private void profileBegin(int phase) {
+        if (profiler != null) profiler.begin(phase);
+    }
+
+    private void profileEnd(int phase) {
+        if (profiler != null) profiler.end(phase);
     }
     public void resetLevelComplete() { this.isLevelComplete = false; }
 
     // --- Getter para pedras (o renderer vai desenhar usando a textura) ---
-    public List<Rock> getRocks() { return rocks; }
+    public Array<Rock> getRocks() { return rocks; }
+    public SpatialHash<Object> getBroadphase() { return broadphase; }
 
     // --- Inner classes para Efeitos e Obstáculos ---
-    class PlayerDashLine {
-        float x, y, length, alpha;
-        float speed = 1000f;
-        public PlayerDashLine(float startX, float startY) {
-            this.x = startX;
-            this.y = startY + MathUtils.random(-PLAYER_HEIGHT / 4f, PLAYER_HEIGHT / 4f);
-            this.length = MathUtils.random(20f, 40f);
-            this.alpha = 0.7f;
-        }
-        public void update(float delta) {
-            x -= speed * delta;
-            alpha -= 3.0f * delta;
-        }
-        public boolean isDead() { return alpha <= 0; }
-    }
     class WindLine {
         float x, y;
         float length;
@@ -496,11 +682,11 @@ public class GameWorld {
         public WindLine() { reset(); }
         public void reset() {
             this.x = -50;
-            this.y = (float) (Math.random() * MainGame.VIRTUAL_HEIGHT);
-            this.length = (float) (Math.random() * 100 + 50);
-            this.speed = (float) (Math.random() * 200 + 250);
-            this.thickness = (float) (Math.random() * 2 + 1);
-            this.alpha = (float) (Math.random() * 0.2 + 0.1);
+            this.y = random.nextFloat() * MainGame.VIRTUAL_HEIGHT;
+            this.length = random.nextFloat() * 100 + 50;
+            this.speed = random.nextFloat() * 200 + 250;
+            this.thickness = random.nextFloat() * 2 + 1;
+            this.alpha = random.nextFloat() * 0.2f + 0.1f;
             this.isActive = true;
         }
         public void update(float delta, float playerSpeed) {
@@ -512,78 +698,40 @@ public class GameWorld {
             }
         }
     }
-    class SnowEffect {
-        float x, y;
-        float size;
-        float speed;
-        float life;
-        float maxLife;
-        float rotation;
-        float rotationSpeed;
-        boolean isSnowball;
-        Color color;
-
-        public SnowEffect(float avalancheHeight) {
-            this.isSnowball = random.nextBoolean();
-            this.x = (float) (Math.random() * (LARGURA_AVALANCHE + 20f));
-
-            if (isSnowball) {
-                this.size = (float) (Math.random() * 12 + 8);
-                this.y = (float) (Math.random() * avalancheHeight);
-                this.speed = (float) (Math.random() * 80 + 40) + avalancheIntensity * 80;
-                this.maxLife = (float) (Math.random() * 4 + 3);
-                this.color = new Color(1, 1, 1, 0.9f);
-            } else {
-                this.size = (float) (Math.random() * 40 + 20);
-                this.y = (float) (Math.random() * avalancheHeight);
-                this.speed = (float) (Math.random() * 60 + 30) + avalancheIntensity * 60;
-                this.maxLife = (float) (Math.random() * 1.5f + 1.0f);
-                this.color = new Color(1, 1, 1, 0.6f);
-            }
-            this.life = maxLife;
-            this.rotation = (float) (Math.random() * 360);
-            this.rotationSpeed = (float) (Math.random() * 100 - 50);
-        }
-
-        public void update(float delta, float avalancheHeight) {
-            float scaledSpeed = speed * currentDifficulty;
-            x += scaledSpeed * delta;
-            rotation += rotationSpeed * delta;
-            life -= delta;
-            if (isSnowball) {
-                size += 8f * delta;
-                color.a = life / maxLife * 0.9f;
-            } else {
-                size += 40f * delta;
-                color.a = (life / maxLife) * 0.4f;
-                y += (float) (Math.sin(avalancheTimer * 3 + x * 0.01f) * 20 * delta);
-            }
-        }
-        public boolean isDead() {
-            return life <= 0 || x > LARGURA_AVALANCHE + 100 || (isSnowball && size > 50) || (!isSnowball && size > 80);
-        }
-    }
-
-    // Classe lógica de pedra
-    public class Rock {
+    // Classe lógica de pedra (reutilizada pelo rockPool)
+    public class Rock implements Pool.Poolable {
         public float x, y;
+        public float prevX;
         public float width, height;
         public float speed;
-        public Rectangle rect;
+        public final Rectangle rect;
+        int broadphaseHandle = -1;
+        int index = -1; // posição em rocks (remoção por colisão sem procurar no array)
 
-        public Rock(float x, float y, float width, float height, float speed) {
+        Rock() {
+            // CORREÇÃO APLICADA: Cria o retângulo de colisão com o tamanho correto (uma única vez)
+            this.rect = new Rectangle(0, 0, ROCK_COLLISION_WIDTH, ROCK_COLLISION_HEIGHT);
+        }
+
+        void init(float x, float y, float width, float height, float speed) {
             this.x = x;
+            this.prevX = x;
             this.y = y;
             this.width = width;
             this.height = height;
             this.speed = speed;
-            // CORREÇÃO APLICADA: Cria o retângulo de colisão com o tamanho e offset corretos
-            this.rect = new Rectangle(
-                x + ROCK_COLLISION_OFFSET_X,
-                y + ROCK_COLLISION_OFFSET_Y,
-                ROCK_COLLISION_WIDTH,
-                ROCK_COLLISION_HEIGHT
-            );
+            this.rect.setPosition(x + ROCK_COLLISION_OFFSET_X, y + ROCK_COLLISION_OFFSET_Y);
+        }
+
+        @Override
+        public void reset() {
+            x = y = prevX = speed = 0f;
+            broadphaseHandle = -1;
+            index = -1;
+        }
+
+        public float getRenderX(float alpha) {
+            return MathUtils.lerp(prevX, x, alpha);
         }
     }
 }
@@ -0,0 +1,169 @@
+package br.jogobike;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+// Um campo de texto do HUD (pontos, velocidade, nível...) guardado num BitmapFontCache.
+// Os glifos só são montados de novo quando o valor muda; com o valor parado, desenhar é
+// só copiar para o SpriteBatch os vértices já prontos (sem GlyphLayout nem String por frame).
+// Números são escritos dígito a dígito num char[] reaproveitado, sem String.format.
+public class HudText {
+    private final BitmapFontCache cache;
+    private final String prefix;
+    private final String suffix;
+    private final int halign;          // Align.left ou Align.right em relação a x
+    private final boolean centerOnY;   // true = y é o centro vertical do texto (alinhado a um ícone)
+
+    private final Chars text = new Chars(32);
+    private float x, y;
+    private float width, height;
+
+    private boolean built = false;
+    private int shownValue;
+    private String shownLabel;
+
+    public HudText(BitmapFont font, String prefix, String suffix, int halign, boolean centerOnY) {
+        this.cache = font.newFontCache();
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.halign = halign;
+        this.centerOnY = centerOnY;
+
+        // Monta uma vez com um texto comprido para os vértices do cache já nascerem com espaço
+        // suficiente: um número que ganha um dígito não faz o cache crescer no meio da fase
+        for (int i = 0; i < 24; i++) text.append('0');
+        cache.setText(text, 0, 0);
+        cache.clear();
+        text.clear();
+    }
+
+    public void setPosition(float x, float y) {
+        if (built && x == this.x && y == this.y) return;
+        this.x = x;
+        this.y = y;
+        if (built) place();
+    }
+
+    // Campo numérico: prefixo + valor + sufixo
+    public void setValue(int value) {
+        if (built && shownLabel == null && value == shownValue) return;
+        shownValue = value;
+        shownLabel = null;
+        text.clear();
+        text.append(prefix);
+        text.append(value);
+        text.append(suffix);
+        rebuild();
+    }
+
+    // Campo de texto fixo (ex.: "INVENCIVEL!"); comparado por referência
+    public void setLabel(String label) {
+        if (built && label == shownLabel) return;
+        shownLabel = label;
+        text.clear();
+        text.append(label);
+        rebuild();
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public void draw(Batch batch) {
+        cache.draw(batch);
+    }
+
+    private void rebuild() {
+        GlyphLayout layout = cache.setText(text, 0, 0);
+        width = layout.width;
+        height = layout.height;
+        built = true;
+        place();
+    }
+
+    // Move os vértices já montados para a posição final (não remonta os glifos)
+    private void place() {
+        float drawX = Align.isRight(halign) ? x - width : x;
+        float drawY = centerOnY ? y + height / 2 : y;
+        cache.setPosition(drawX, drawY);
+    }
+
+    // Buffer de caracteres reaproveitado, visto pelo BitmapFontCache como CharSequence
+    private static class Chars implements CharSequence {
+        private char[] chars;
+        private int length;
+
+        Chars(int capacity) {
+            chars = new char[capacity];
+        }
+
+        void clear() {
+            length = 0;
+        }
+
+        void append(char c) {
+            ensureCapacity(length + 1);
+            chars[length++] = c;
+        }
+
+        void append(String s) {
+            ensureCapacity(length + s.length());
+            s.getChars(0, s.length(), chars, length);
+            length += s.length();
+        }
+
+        void append(int value) {
+            if (value == Integer.MIN_VALUE) {
+                append("-2147483648");
+                return;
+            }
+            ensureCapacity(length + 11);
+            if (value < 0) {
+                chars[length++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (int v = value; v >= 10; v /= 10) digits++;
+            int end = length + digits;
+            for (int i = end - 1; i >= length; i--) {
+                chars[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+            length = end;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= chars.length) return;
+            char[] bigger = new char[Math.max(capacity, chars.length * 2)];
+            System.arraycopy(chars, 0, bigger, 0, length);
+            chars = bigger;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package br.jogobike;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// Gravação de uma corrida: semente + nível (+ modo sem fim) + o input de cada passo fixo da simulação.
+// Os 4 botões viram uma máscara de 4 bits e passos repetidos são compactados em
+// "runs" (máscara, quantidade). Cada run ocupa 1 byte: 4 bits de máscara, 3 bits
+// do tamanho e 1 bit de continuação; tamanhos maiores seguem em bytes de 7 bits.
+// Uma sessão de 10 minutos a 120 Hz cabe em poucos KB.
+public class InputRecording {
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int ACCELERATE = 4;
+    public static final int BRAKE = 8;
+
+    private static final int MAGIC = 0x424B5250; // "BKRP"
+    private static final int VERSION = 2; // 2: byte de flags (modo sem fim); a versão 1 ainda é lida
+    private static final int FLAG_ENDLESS = 1;
+
+    private final int level;
+    private final long seed;
+    private final boolean endless;
+
+    private byte[] data = new byte[256];
+    private int dataSize = 0;
+    private int tickCount = 0;
+
+    // Run em aberto (ainda não escrito em 'data')
+    private int runMask = -1;
+    private int runLength = 0;
+
+    public InputRecording(int level, long seed) {
+        this(level, seed, false);
+    }
+
+    public InputRecording(int level, long seed, boolean endless) {
+        this.level = level;
+        this.seed = seed;
+        this.endless = endless;
+    }
+
+    public static int mask(boolean up, boolean down, boolean accelerate, boolean brake) {
+        return (up ? UP : 0) | (down ? DOWN : 0) | (accelerate ? ACCELERATE : 0) | (brake ? BRAKE : 0);
+    }
+
+    // Registra o input de um passo da simulação
+    public void record(int mask) {
+        if (mask == runMask) {
+            runLength++;
+        } else {
+            flushRun();
+            runMask = mask;
+            runLength = 1;
+        }
+        tickCount++;
+    }
+
+    private void flushRun() {
+        if (runLength == 0) return;
+        int extra = runLength - 1;
+        int first = (runMask & 0x0F) | ((extra & 0x07) << 4);
+        extra >>>= 3;
+        if (extra != 0) first |= 0x80;
+        writeByte(first);
+        while (extra != 0) {
+            int b = extra & 0x7F;
+            extra >>>= 7;
+            if (extra != 0) b |= 0x80;
+            writeByte(b);
+        }
+        runLength = 0;
+        runMask = -1;
+    }
+
+    private void writeByte(int b) {
+        if (dataSize == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[dataSize++] = (byte) b;
+    }
+
+    public Playback playback() {
+        flushRun();
+        return new Playback();
+    }
+
+    public void write(OutputStream out) throws IOException {
+        flushRun();
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+        dataOut.writeInt(level);
+        dataOut.writeLong(seed);
+        dataOut.writeByte(endless ? FLAG_ENDLESS : 0);
+        dataOut.writeInt(tickCount);
+        dataOut.writeInt(dataSize);
+        dataOut.write(data, 0, dataSize);
+        dataOut.flush();
+    }
+
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("Arquivo de replay inválido");
+        }
+        int version = dataIn.readUnsignedByte();
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Versão de replay não suportada: " + version);
+        }
+        int level = dataIn.readInt();
+        long seed = dataIn.readLong();
+        int flags = version >= 2 ? dataIn.readUnsignedByte() : 0;
+        InputRecording recording = new InputRecording(level, seed, (flags & FLAG_ENDLESS) != 0);
+        recording.tickCount = dataIn.readInt();
+        recording.dataSize = dataIn.readInt();
+        recording.data = new byte[Math.max(1, recording.dataSize)];
+        dataIn.readFully(recording.data, 0, recording.dataSize);
+        return recording;
+    }
+
+    public int getLevel() { return level; }
+    public long getSeed() { return seed; }
+    public boolean isEndless() { return endless; }
+    public int getTickCount() { return tickCount; }
+    public int getEncodedSize() { return dataSize + (runLength > 0 ? 1 : 0); }
+
+    // Lê os passos de volta, um por chamada de next()
+    public class Playback {
+        private int position = 0;
+        private int mask = 0;
+        private int remaining = 0;
+        private int ticksLeft = tickCount;
+
+        public boolean hasNext() {
+            return ticksLeft > 0;
+        }
+
+        public int next() {
+            if (remaining == 0) {
+                int first = data[position++] & 0xFF;
+                mask = first & 0x0F;
+                int extra = (first >>> 4) & 0x07;
+                int shift = 3;
+                boolean more = (first & 0x80) != 0;
+                while (more) {
+                    int b = data[position++] & 0xFF;
+                    extra |= (b & 0x7F) << shift;
+                    shift += 7;
+                    more = (b & 0x80) != 0;
+                }
+                remaining = extra + 1;
+            }
+            remaining--;
+            ticksLeft--;
+            return mask;
+        }
+    }
+}
@@ -11,6 +11,9 @@ public class MainGame extends Game {
     public SpriteBatch batch;
     public BitmapFont font;
     public Music backgroundMusic;
+    public Assets assets; // texturas compartilhadas entre as telas (contagem de referências)
+    public boolean threadedSimulation = false; // GameWorld num thread próprio (ver SimulationThread)
+    public FramePacing framePacing = FramePacing.NONE; // o launcher troca para limitar o FPS fora da corrida
 
     // Cache para texturas placeholder
     public static Texture placeholderTexture;
@@ -24,6 +27,7 @@ public class MainGame extends Game {
     public void create() {
         batch = new SpriteBatch();
         font = new BitmapFont();
+        assets = new Assets();
 
         // Carregar e configurar a música
         try {
@@ -32,7 +36,7 @@ public class MainGame extends Game {
             backgroundMusic.setVolume(0.7f);
             playBackgroundMusic(); // Usar método centralizado
         } catch (Exception e) {
-            Gdx.app.error("MainGame", "Erro ao carregar música: " + e.getMessage());
+            GameLog.error("MainGame", "Erro ao carregar música: {}", e.getMessage());
         }
 
         setScreen(new MenuScreen(this));
@@ -59,13 +63,22 @@ public class MainGame extends Game {
 
     @Override
     public void dispose() {
+        // As telas só se descartam ao trocar de tela; a que está ativa ao fechar a janela
+        // descarta aqui, antes do batch e dos assets (para o SimulationThread e salva o replay)
+        if (screen != null) {
+            screen.hide();
+            screen.dispose();
+            screen = null;
+        }
         batch.dispose();
         font.dispose();
+        assets.dispose();
         if (backgroundMusic != null) {
             backgroundMusic.dispose();
         }
         if (placeholderTexture != null) {
             placeholderTexture.dispose();
         }
+        GameLog.flush(); // escreve o que ainda está na fila do log antes do backend fechar
     }
 }
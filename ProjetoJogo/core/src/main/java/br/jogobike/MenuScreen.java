@@ -9,12 +9,14 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -32,7 +34,8 @@ public class MenuScreen implements Screen {
 
     // Texturas e animações
     private Texture background;
-    private Texture bikeTexture;
+    private TextureRegion bikeRegion;
+    private final Array<String> acquiredAssets = new Array<>(); // devolvidos ao game.assets no dispose
     private Animation<TextureRegion> bikeAnimation;
     private float stateTime;
 
@@ -43,8 +46,8 @@ public class MenuScreen implements Screen {
     // --- MUDANÇA (Request 3): Rotação da bike ---
     private float bikeAngle = 0;
 
-    // Efeito Parallax
-    private float backgroundOffsetX = 0f;
+    // Efeito Parallax (uma camada rolando em u; ver ParallaxBackground)
+    private final ParallaxBackground parallax = new ParallaxBackground(MainGame.VIRTUAL_WIDTH);
     private float parallaxSpeed = 60f;
 
     // Sistema de vento
@@ -94,19 +97,34 @@ public class MenuScreen implements Screen {
     }
 
     private void loadResources() {
-        try {
-            background = new Texture(Gdx.files.internal("background.png"));
-            bikeTexture = new Texture(Gdx.files.internal("player_bike.png"));
-
-            TextureRegion[] frames = new TextureRegion[1];
-            frames[0] = new TextureRegion(bikeTexture);
-            bikeAnimation = new Animation<>(0.1f, frames);
-
-        } catch (Exception e) {
-            Gdx.app.error("MenuScreen", "Erro ao carregar texturas: " + e.getMessage());
+        // Tudo vem do cache compartilhado: o GameScreen reaproveita o fundo e o atlas sem recarregar
+        if (game.assets.exists(Assets.BACKGROUND_LEVEL_1)) {
+            background = game.assets.acquire(Assets.BACKGROUND_LEVEL_1, Texture.class);
+            acquiredAssets.add(Assets.BACKGROUND_LEVEL_1);
+        } else {
+            GameLog.error("MenuScreen", "Fundo não encontrado: {}", Assets.BACKGROUND_LEVEL_1);
             background = createPlaceholderTexture((int)MainGame.VIRTUAL_WIDTH, (int)MainGame.VIRTUAL_HEIGHT, new Color(0.2f, 0.6f, 0.8f, 1));
-            bikeTexture = createPlaceholderTexture(100, 120, Color.ORANGE);
         }
+
+        if (game.assets.exists(Assets.SPRITE_ATLAS)) {
+            TextureAtlas atlas = game.assets.acquire(Assets.SPRITE_ATLAS, TextureAtlas.class);
+            acquiredAssets.add(Assets.SPRITE_ATLAS);
+            bikeRegion = atlas.findRegion("player_bike");
+        }
+        if (bikeRegion == null && game.assets.exists("player_bike.png")) {
+            bikeRegion = new TextureRegion(game.assets.acquire("player_bike.png", Texture.class));
+            acquiredAssets.add("player_bike.png");
+        }
+        if (bikeRegion == null) {
+            GameLog.error("MenuScreen", "Sprite da bike não encontrado, usando placeholder");
+            bikeRegion = new TextureRegion(createPlaceholderTexture(100, 120, Color.ORANGE));
+        }
+
+        parallax.addLayer(background, 1f, false);
+
+        TextureRegion[] frames = new TextureRegion[1];
+        frames[0] = bikeRegion;
+        bikeAnimation = new Animation<>(0.1f, frames);
     }
 
     private void createFonts() {
@@ -146,10 +164,7 @@ public class MenuScreen implements Screen {
         updateBikeAnimation(delta);
 
         // Animação do parallax
-        backgroundOffsetX -= parallaxSpeed * delta;
-        if (backgroundOffsetX < -MainGame.VIRTUAL_WIDTH) {
-            backgroundOffsetX += MainGame.VIRTUAL_WIDTH;
-        }
+        parallax.scroll(-parallaxSpeed * delta);
 
         // Animação das linhas de vento
         for (MenuWindLine line : windLines) {
@@ -172,12 +187,7 @@ public class MenuScreen implements Screen {
         // Desenhar Parallax (Batch)
         game.batch.setProjectionMatrix(camera.combined);
         game.batch.begin();
-        float x1 = backgroundOffsetX;
-        float x2 = backgroundOffsetX + MainGame.VIRTUAL_WIDTH;
-        float x3 = backgroundOffsetX - MainGame.VIRTUAL_WIDTH;
-        game.batch.draw(background, x1, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        game.batch.draw(background, x2, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
-        game.batch.draw(background, x3, 0, MainGame.VIRTUAL_WIDTH, MainGame.VIRTUAL_HEIGHT);
+        parallax.draw(game.batch);
         game.batch.end();
 
         // Desenhar Efeitos (ShapeRenderer)
@@ -258,7 +268,7 @@ public class MenuScreen implements Screen {
 
         // Rodapé
         instructionFont.setColor(0.6f, 0.6f, 0.6f, 1);
-        String footer = "Desvie dos obstáculos e mantenha sua velocidade!";
+        String footer = "Desvie dos obstáculos e mantenha sua velocidade!  [E] Modo sem fim";
         layout.setText(instructionFont, footer);
         instructionFont.draw(game.batch, footer,
             (MainGame.VIRTUAL_WIDTH - layout.width) / 2,
@@ -271,6 +281,10 @@ public class MenuScreen implements Screen {
             GameScreen gameScreen = new GameScreen(game, 1);
             game.setScreen(gameScreen);
             dispose();
+        } else if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.E)) {
+            // Modo sem fim: pista da fase 1, pedras e troncos da pista gerada (TrackGenerator)
+            game.setScreen(new GameScreen(game, 1, true));
+            dispose();
         }
     }
 
@@ -305,13 +319,17 @@ public class MenuScreen implements Screen {
         if (titleFont != null) titleFont.dispose();
         if (menuFont != null) menuFont.dispose();
         if (instructionFont != null) instructionFont.dispose();
-        if (background != null) background.dispose();
-        if (bikeTexture != null) bikeTexture.dispose();
+        // Fundo e bike são do game.assets (o placeholder é do MainGame): só devolver as referências
+        for (String path : acquiredAssets) {
+            game.assets.release(path);
+        }
+        acquiredAssets.clear();
         if (shapeRenderer != null) shapeRenderer.dispose();
     }
 
     @Override
     public void show() {
+        game.framePacing.setMode(FramePacing.Mode.MENU);
         game.playBackgroundMusic();
     }
 
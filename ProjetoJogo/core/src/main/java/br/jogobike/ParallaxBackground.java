@@ -0,0 +1,81 @@
+package br.jogobike;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Array;
+
+// Fundo em camadas de profundidade (parallax). Cada camada é um único quad da largura da tela
+// com a textura em modo Repeat: rolar é só deslocar a coordenada u, sem desenhar cópias
+// lado a lado para esconder a emenda. As camadas são desenhadas na ordem em que foram
+// adicionadas (a primeira fica mais ao fundo).
+// A velocidade de cada camada é a do fundo de referência (GameWorld.updateParallax, que já
+// depende de playerSpeedX) vezes o seu fator: < 1 parece mais longe, > 1 mais perto.
+// Obs.: Repeat em textura que não é potência de 2 precisa de GL desktop ou GLES 3.
+public class ParallaxBackground {
+    public static class Layer {
+        private Texture texture;
+        private final float speedFactor;
+        private final float y, height;
+        private final float repeatWidth; // largura (virtual) de uma repetição da textura
+        private final boolean flipY;      // true para texturas de FrameBuffer (linha de baixo em v = 0)
+        private float u = 0f;             // deslocamento atual, sempre em [0, 1)
+
+        Layer(Texture texture, float speedFactor, float y, float height, float repeatWidth, boolean flipY) {
+            this.speedFactor = speedFactor;
+            this.y = y;
+            this.height = height;
+            this.repeatWidth = repeatWidth;
+            this.flipY = flipY;
+            setTexture(texture);
+        }
+
+        // Troca a textura mantendo o deslocamento (ex.: o FrameBuffer foi recriado no resize)
+        public void setTexture(Texture texture) {
+            if (texture == this.texture) return;
+            this.texture = texture;
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+        }
+    }
+
+    private final Array<Layer> layers = new Array<>();
+    private final float screenWidth;
+
+    public ParallaxBackground(float screenWidth) {
+        this.screenWidth = screenWidth;
+    }
+
+    public Layer addLayer(Texture texture, float speedFactor, float y, float height, float repeatWidth, boolean flipY) {
+        Layer layer = new Layer(texture, speedFactor, y, height, repeatWidth, flipY);
+        layers.add(layer);
+        return layer;
+    }
+
+    // Camada que cobre a tela inteira e repete a cada largura de tela
+    public Layer addLayer(Texture texture, float speedFactor, boolean flipY) {
+        return addLayer(texture, speedFactor, 0, MainGame.VIRTUAL_HEIGHT, screenWidth, flipY);
+    }
+
+    public void clear() {
+        layers.clear();
+    }
+
+    // dx = quanto o fundo de referência andou (unidades virtuais; negativo = para a esquerda)
+    public void scroll(float dx) {
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+            layer.u -= dx * layer.speedFactor / layer.repeatWidth;
+            layer.u -= (float) Math.floor(layer.u);
+        }
+    }
+
+    public void draw(Batch batch) {
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+            float u2 = layer.u + screenWidth / layer.repeatWidth;
+            // v do canto de baixo e do de cima (imagem comum tem a linha de cima em v = 0)
+            float bottomV = layer.flipY ? 0f : 1f;
+            float topV = layer.flipY ? 1f : 0f;
+            batch.draw(layer.texture, 0, layer.y, screenWidth, layer.height, layer.u, bottomV, u2, topV);
+        }
+    }
+}
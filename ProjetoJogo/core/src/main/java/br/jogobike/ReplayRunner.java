@@ -0,0 +1,42 @@
+package br.jogobike;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Reproduz uma InputRecording num GameWorld sem renderização e sem limite de
+// velocidade: mesma semente + mesmo input por passo = mesma corrida.
+public class ReplayRunner {
+
+    public static GameWorld run(InputRecording recording) {
+        GameWorld world = new GameWorld(recording.getLevel(), recording.getSeed(), DifficultyParams.defaults(), recording.isEndless());
+        InputRecording.Playback playback = recording.playback();
+        while (playback.hasNext()) {
+            world.setInputMask(playback.next());
+            world.update(GameScreen.SIM_STEP);
+        }
+        return world;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: ReplayRunner <arquivo.rpl>");
+            System.exit(1);
+        }
+        InputRecording recording;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]))) {
+            recording = InputRecording.read(in);
+        }
+
+        long start = System.nanoTime();
+        GameWorld world = run(recording);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        float simulated = recording.getTickCount() * GameScreen.SIM_STEP;
+        System.out.println("Fase " + recording.getLevel() + (recording.isEndless() ? " (sem fim)" : "") + ", semente " + recording.getSeed());
+        System.out.println("Passos: " + recording.getTickCount() + " (" + simulated + " s simulados em " + seconds + " s)");
+        System.out.println("Pontos: " + world.getPontos() + ", vidas: " + world.getVidas()
+            + ", game over: " + world.isGameOver() + ", fase completa: " + world.isLevelComplete());
+    }
+}
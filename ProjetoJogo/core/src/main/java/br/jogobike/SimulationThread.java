@@ -0,0 +1,114 @@
+package br.jogobike;
+
+// Roda o GameWorld num thread próprio, a passo fixo (GameScreen.SIM_STEP), e publica um
+// WorldSnapshot por passo no SnapshotBuffer. O thread de desenho só lê snapshots, então um
+// frame lento não atrasa a lógica e os dois trabalham em paralelo em máquinas com vários núcleos.
+// Input e pause chegam por campos volatile; o GameWorld só é tocado por este thread enquanto roda.
+public class SimulationThread implements Runnable {
+    private static final long STEP_NANOS = (long) (GameScreen.SIM_STEP * 1_000_000_000L);
+    private static final int MAX_STEPS_BEHIND = 8; // mesmo limite do GameScreen contra a "espiral da morte"
+
+    private final GameWorld world;
+    private final SnapshotBuffer snapshots;
+    private final InputRecording recording; // pode ser null
+
+    private volatile int inputMask = 0;
+    private volatile boolean paused;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    public SimulationThread(GameWorld world, SnapshotBuffer snapshots, InputRecording recording) {
+        this.world = world;
+        this.snapshots = snapshots;
+        this.recording = recording;
+        this.paused = world.isPaused();
+    }
+
+    public void start() {
+        if (running) return;
+        snapshots.prime(world);
+        running = true;
+        thread = new Thread(this, "simulacao");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Para e espera o thread terminar; depois disso o GameWorld volta a ser do chamador
+    public void stop() {
+        if (!running) return;
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    public void setInputMask(int mask) {
+        inputMask = mask;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void run() {
+        long nextStep = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < nextStep) {
+                sleepUntil(nextStep);
+                continue;
+            }
+            // Atrasou demais (thread parado pelo SO, depurador...): descarta em vez de correr atrás
+            if (now - nextStep > MAX_STEPS_BEHIND * STEP_NANOS) {
+                nextStep = now;
+            }
+
+            try {
+                step();
+            } catch (RuntimeException e) {
+                GameLog.error("SimulationThread", "Erro no passo da simulação", e);
+                running = false;
+                return;
+            }
+            nextStep += STEP_NANOS;
+        }
+    }
+
+    private void step() {
+        world.setPaused(paused);
+        if (!world.isPaused()) {
+            int mask = inputMask;
+            if (recording != null) {
+                recording.record(mask);
+            }
+            world.setInputMask(mask);
+            world.update(GameScreen.SIM_STEP);
+        }
+
+        WorldSnapshot snapshot = snapshots.getBack();
+        snapshot.capture(world);
+        snapshot.publishNanos = System.nanoTime();
+        snapshots.publish();
+    }
+
+    private void sleepUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 1_000_000L) {
+            try {
+                Thread.sleep((remaining - 500_000L) / 1_000_000L);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        } else {
+            Thread.yield();
+        }
+    }
+}
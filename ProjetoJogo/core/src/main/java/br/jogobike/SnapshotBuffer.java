@@ -0,0 +1,42 @@
+package br.jogobike;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Triplo buffer de WorldSnapshot entre o thread da simulação (escreve) e o de desenho (lê), sem travas.
+// Cada lado tem o seu buffer exclusivo (back e front) e os dois só trocam pelo do meio, com um
+// getAndSet atômico. O escritor nunca espera o leitor e vice-versa; o leitor sempre pega o
+// passo mais recente publicado e pula os que ficaram para trás se o desenho atrasar.
+public class SnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // o buffer do meio tem um passo que o leitor ainda não viu
+
+    private final WorldSnapshot[] buffers = {new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // só o escritor mexe
+    private int front = 2; // só o leitor mexe
+
+    // Preenche os três com o estado inicial (antes de o thread da simulação começar)
+    public void prime(GameWorld world) {
+        for (WorldSnapshot snapshot : buffers) {
+            snapshot.capture(world);
+            snapshot.publishNanos = System.nanoTime();
+        }
+    }
+
+    // --- Lado da simulação ---
+    public WorldSnapshot getBack() {
+        return buffers[back];
+    }
+
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // --- Lado do desenho ---
+    public WorldSnapshot acquireLatest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
@@ -0,0 +1,115 @@
+package br.jogobike;
+
+import java.util.Random;
+
+// Partículas de neve da avalanche guardadas em arrays paralelos (estrutura de arrays).
+// Capacidade fixa e remoção por troca com a última: nenhuma alocação por partícula.
+public class SnowParticles {
+    public final float[] x;
+    public final float[] y;
+    public final float[] size;
+    public final float[] speed;
+    public final float[] life;
+    public final float[] maxLife;
+    public final float[] rotation;
+    public final float[] rotationSpeed;
+    public final float[] alpha;
+    public final boolean[] snowball;
+
+    private final int capacity;
+    private int count = 0;
+
+    public SnowParticles(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        size = new float[capacity];
+        speed = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        rotation = new float[capacity];
+        rotationSpeed = new float[capacity];
+        alpha = new float[capacity];
+        snowball = new boolean[capacity];
+    }
+
+    // Retorna false (e não cria nada) se o limite de partículas já foi atingido
+    public boolean spawn(Random random, float avalancheHeight, float intensity) {
+        if (count == capacity) return false;
+        int i = count++;
+
+        boolean isSnowball = random.nextBoolean();
+        snowball[i] = isSnowball;
+        x[i] = random.nextFloat() * (GameWorld.LARGURA_AVALANCHE + 20f);
+        y[i] = random.nextFloat() * avalancheHeight;
+
+        if (isSnowball) {
+            size[i] = random.nextFloat() * 12 + 8;
+            speed[i] = random.nextFloat() * 80 + 40 + intensity * 80;
+            maxLife[i] = random.nextFloat() * 4 + 3;
+            alpha[i] = 0.9f;
+        } else {
+            size[i] = random.nextFloat() * 40 + 20;
+            speed[i] = random.nextFloat() * 60 + 30 + intensity * 60;
+            maxLife[i] = random.nextFloat() * 1.5f + 1.0f;
+            alpha[i] = 0.6f;
+        }
+        life[i] = maxLife[i];
+        rotation[i] = random.nextFloat() * 360;
+        rotationSpeed[i] = random.nextFloat() * 100 - 50;
+        return true;
+    }
+
+    public void update(float delta, float difficulty, float avalancheTimer) {
+        float maxX = GameWorld.LARGURA_AVALANCHE + 100;
+        int i = 0;
+        while (i < count) {
+            x[i] += speed[i] * difficulty * delta;
+            rotation[i] += rotationSpeed[i] * delta;
+            life[i] -= delta;
+            if (snowball[i]) {
+                size[i] += 8f * delta;
+                alpha[i] = life[i] / maxLife[i] * 0.9f;
+            } else {
+                size[i] += 40f * delta;
+                alpha[i] = (life[i] / maxLife[i]) * 0.4f;
+                y[i] += (float) (Math.sin(avalancheTimer * 3 + x[i] * 0.01f) * 20 * delta);
+            }
+
+            boolean dead = life[i] <= 0 || x[i] > maxX || (snowball[i] ? size[i] > 50 : size[i] > 80);
+            if (dead) {
+                // Não avança i: a partícula que veio do fim ainda precisa ser atualizada
+                removeIndex(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void removeIndex(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        size[i] = size[last];
+        speed[i] = speed[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        rotation[i] = rotation[last];
+        rotationSpeed[i] = rotationSpeed[last];
+        alpha[i] = alpha[last];
+        snowball[i] = snowball[last];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,173 @@
+package br.jogobike;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+// Broadphase em grade uniforme: cada objeto registrado ocupa as células que seu
+// retângulo toca, e uma consulta só visita as células da área pedida.
+// Objetos fora da grade são presos às células da borda (continuam consultáveis).
+// Os handles são reaproveitados; depois de aquecida a grade não aloca nada.
+public class SpatialHash<T> {
+    private final float originX, originY;
+    private final float cellSize;
+    private final int cols, rows;
+    private final IntArray[] cells;
+
+    // Dados por handle
+    private Object[] owners;
+    private int[] cellMinX, cellMinY, cellMaxX, cellMaxY;
+    private int[] queryStamp;
+    private int handleCount = 0;
+    private final IntArray freeHandles = new IntArray();
+    private int currentStamp = 0;
+
+    public SpatialHash(float minX, float minY, float maxX, float maxY, float cellSize) {
+        this.originX = minX;
+        this.originY = minY;
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, MathUtils.ceil((maxX - minX) / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil((maxY - minY) / cellSize));
+        this.cells = new IntArray[cols * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new IntArray(false, 4);
+        }
+        ensureCapacity(16);
+    }
+
+    public int insert(T owner, Rectangle bounds) {
+        return insert(owner, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    public int insert(T owner, float x, float y, float width, float height) {
+        int handle;
+        if (freeHandles.size > 0) {
+            handle = freeHandles.pop();
+        } else {
+            ensureCapacity(handleCount + 1);
+            handle = handleCount++;
+        }
+        owners[handle] = owner;
+        queryStamp[handle] = 0;
+        cellMinX[handle] = cellX(x);
+        cellMinY[handle] = cellY(y);
+        cellMaxX[handle] = cellX(x + width);
+        cellMaxY[handle] = cellY(y + height);
+        addToCells(handle);
+        return handle;
+    }
+
+    public void move(int handle, Rectangle bounds) {
+        move(handle, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    // Só troca de células quando o intervalo de células realmente muda
+    public void move(int handle, float x, float y, float width, float height) {
+        int minX = cellX(x), minY = cellY(y);
+        int maxX = cellX(x + width), maxY = cellY(y + height);
+        if (minX == cellMinX[handle] && minY == cellMinY[handle]
+            && maxX == cellMaxX[handle] && maxY == cellMaxY[handle]) {
+            return;
+        }
+        removeFromCells(handle);
+        cellMinX[handle] = minX;
+        cellMinY[handle] = minY;
+        cellMaxX[handle] = maxX;
+        cellMaxY[handle] = maxY;
+        addToCells(handle);
+    }
+
+    public void remove(int handle) {
+        removeFromCells(handle);
+        owners[handle] = null;
+        freeHandles.add(handle);
+    }
+
+    public void clear() {
+        for (IntArray cell : cells) {
+            cell.clear();
+        }
+        for (int i = 0; i < handleCount; i++) {
+            owners[i] = null;
+        }
+        handleCount = 0;
+        freeHandles.clear();
+    }
+
+    public void query(Rectangle area, Array<T> out) {
+        query(area.x, area.y, area.width, area.height, out);
+    }
+
+    // Adiciona em 'out' (sem repetir) os objetos das células tocadas pela área.
+    // O teste exato de sobreposição (narrowphase) fica com quem chama.
+    @SuppressWarnings("unchecked")
+    public void query(float x, float y, float width, float height, Array<T> out) {
+        int stamp = ++currentStamp;
+        int minX = cellX(x), minY = cellY(y);
+        int maxX = cellX(x + width), maxY = cellY(y + height);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                IntArray cell = cells[cy * cols + cx];
+                for (int i = 0; i < cell.size; i++) {
+                    int handle = cell.items[i];
+                    if (queryStamp[handle] != stamp) {
+                        queryStamp[handle] = stamp;
+                        out.add((T) owners[handle]);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToCells(int handle) {
+        for (int cy = cellMinY[handle]; cy <= cellMaxY[handle]; cy++) {
+            for (int cx = cellMinX[handle]; cx <= cellMaxX[handle]; cx++) {
+                cells[cy * cols + cx].add(handle);
+            }
+        }
+    }
+
+    private void removeFromCells(int handle) {
+        for (int cy = cellMinY[handle]; cy <= cellMaxY[handle]; cy++) {
+            for (int cx = cellMinX[handle]; cx <= cellMaxX[handle]; cx++) {
+                cells[cy * cols + cx].removeValue(handle);
+            }
+        }
+    }
+
+    private int cellX(float x) {
+        return MathUtils.clamp((int) Math.floor((x - originX) / cellSize), 0, cols - 1);
+    }
+
+    private int cellY(float y) {
+        return MathUtils.clamp((int) Math.floor((y - originY) / cellSize), 0, rows - 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (owners != null && owners.length >= capacity) return;
+        int newCapacity = Math.max(capacity, owners == null ? 16 : owners.length * 2);
+        owners = copy(owners, newCapacity);
+        cellMinX = copy(cellMinX, newCapacity);
+        cellMinY = copy(cellMinY, newCapacity);
+        cellMaxX = copy(cellMaxX, newCapacity);
+        cellMaxY = copy(cellMaxY, newCapacity);
+        queryStamp = copy(queryStamp, newCapacity);
+    }
+
+    private static Object[] copy(Object[] array, int capacity) {
+        Object[] result = new Object[capacity];
+        if (array != null) System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    private static int[] copy(int[] array, int capacity) {
+        int[] result = new int[capacity];
+        if (array != null) System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+}
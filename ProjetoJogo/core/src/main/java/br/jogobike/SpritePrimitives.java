@@ -0,0 +1,89 @@
+package br.jogobike;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+// Retângulos, círculos e linhas desenhados pelo próprio SpriteBatch, com regiões brancas
+// tingidas pela cor do batch. As regiões "pixel" e "disc" vêm do atlas dos sprites (tarefa
+// packTextures), então primitivas e sprites dividem a mesma textura e não forçam flush
+// entre si; não há troca de shader nem begin/end do ShapeRenderer no meio do frame.
+// A cor fica no batch (setColor) como no ShapeRenderer; quem desenha sprites depois volta para branco.
+public class SpritePrimitives implements Disposable {
+    public static final String PIXEL_REGION = "pixel";
+    public static final String DISC_REGION = "disc";
+
+    private static final int FALLBACK_DISC_SIZE = 64;
+
+    private final Batch batch;
+    private TextureRegion pixel;
+    private TextureRegion disc;
+    private Texture fallbackTexture; // só existe quando o atlas não tem as regiões
+
+    public SpritePrimitives(Batch batch, TextureAtlas atlas) {
+        this.batch = batch;
+        TextureRegion atlasPixel = atlas != null ? atlas.findRegion(PIXEL_REGION) : null;
+        TextureRegion atlasDisc = atlas != null ? atlas.findRegion(DISC_REGION) : null;
+        if (atlasPixel != null && atlasDisc != null) {
+            // Só o miolo do quadrado branco: a filtragem linear nunca pega a borda da região
+            pixel = new TextureRegion(atlasPixel, 1, 1, atlasPixel.getRegionWidth() - 2, atlasPixel.getRegionHeight() - 2);
+            disc = atlasDisc;
+        } else {
+            createFallbackTexture();
+        }
+    }
+
+    // Sem atlas: disco e quadrado branco numa textura própria (funciona, mas troca de textura)
+    private void createFallbackTexture() {
+        Pixmap pixmap = new Pixmap(FALLBACK_DISC_SIZE + 8, FALLBACK_DISC_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        int radius = FALLBACK_DISC_SIZE / 2;
+        pixmap.fillCircle(radius, radius, radius - 1);
+        pixmap.fillRectangle(FALLBACK_DISC_SIZE + 2, 0, 6, 6);
+        fallbackTexture = new Texture(pixmap);
+        fallbackTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pixmap.dispose();
+
+        disc = new TextureRegion(fallbackTexture, 0, 0, FALLBACK_DISC_SIZE, FALLBACK_DISC_SIZE);
+        pixel = new TextureRegion(fallbackTexture, FALLBACK_DISC_SIZE + 4, 2, 2, 2);
+    }
+
+    public void setColor(Color color) {
+        batch.setColor(color);
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        batch.setColor(r, g, b, a);
+    }
+
+    public void rect(float x, float y, float width, float height) {
+        batch.draw(pixel, x, y, width, height);
+    }
+
+    public void circle(float x, float y, float radius) {
+        batch.draw(disc, x - radius, y - radius, radius * 2, radius * 2);
+    }
+
+    // Retângulo de espessura 'thickness' centrado na linha (mesmo resultado do ShapeRenderer.rectLine)
+    public void line(float x1, float y1, float x2, float y2, float thickness) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        float half = thickness / 2;
+        batch.draw(pixel, x1, y1 - half, 0, half, length, thickness, 1f, 1f,
+            MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees);
+    }
+
+    @Override
+    public void dispose() {
+        if (fallbackTexture != null) {
+            fallbackTexture.dispose();
+            fallbackTexture = null;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package br.jogobike;
+
+// Gerador da pista do modo sem fim. A pista é dividida em chunks de uma tela de distância e
+// cada chunk é montado a partir de padrões fixos de pedras (PATTERNS), escolhidos e espelhados
+// por um gerador próprio do chunk: o chunk N é sempre igual para a mesma semente, não importa
+// como a corrida foi até ali. Os chunks ficam prontos LOOKAHEAD_CHUNKS telas à frente e as
+// pedras esperam num anel de capacidade fixa até a distância delas chegar.
+// No máximo um chunk é gerado por update(), então o custo por passo é limitado (alguns
+// microssegundos, ver TrackGeneratorBenchmark) e não há pico de geração em sessões longas.
+// Distância = quanto o cenário já rolou (GameWorld.trackDistance), não tempo. É double: em
+// float o passo entre valores passa de 0,25 px depois de ~2 milhões de px e o espaçamento das
+// pedras começaria a variar justamente nas sessões longas.
+public class TrackGenerator {
+    public static final float CHUNK_LENGTH = MainGame.VIRTUAL_WIDTH;
+    public static final int LOOKAHEAD_CHUNKS = 3;
+    private static final int SLOTS_PER_CHUNK = 2;      // cada metade do chunk recebe no máximo um padrão
+    private static final int CHUNKS_PER_TIER = 10;     // a cada 10 telas entram padrões mais difíceis
+    private static final int MAX_TIER = 2;
+    private static final int CAPACITY = 64;            // > LOOKAHEAD_CHUNKS * SLOTS_PER_CHUNK * maior padrão
+
+    // --- Padrões de pedras ---
+    // offsets: posição dentro da metade do chunk (0..1); lanes: altura na pista (0 = embaixo,
+    // 1 = em cima, < 0 = sorteada). Todas as pedras de um padrão andam na mesma velocidade,
+    // então o desenho (parede com vão, escada...) se mantém na tela.
+    static final class Pattern {
+        final String name;
+        final int minTier;
+        final float[] offsets;
+        final float[] lanes;
+
+        Pattern(String name, int minTier, float[] offsets, float[] lanes) {
+            this.name = name;
+            this.minTier = minTier;
+            this.offsets = offsets;
+            this.lanes = lanes;
+        }
+    }
+
+    static final Pattern[] PATTERNS = {
+        new Pattern("pedra solta", 0, new float[] {0.5f}, new float[] {-1f}),
+        new Pattern("dupla", 0, new float[] {0.2f, 0.7f}, new float[] {-1f, -1f}),
+        new Pattern("diagonal", 0, new float[] {0.2f, 0.5f, 0.8f}, new float[] {0f, 0.5f, 1f}),
+        new Pattern("parede com vão", 1, new float[] {0.5f, 0.5f}, new float[] {0f, 0.45f}),
+        new Pattern("zigue-zague", 1, new float[] {0.1f, 0.35f, 0.6f, 0.85f}, new float[] {0f, 1f, 0f, 1f}),
+        new Pattern("funil", 2, new float[] {0.2f, 0.2f, 0.6f}, new float[] {0f, 1f, 0.5f}),
+        new Pattern("parede dupla", 2, new float[] {0.3f, 0.3f, 0.8f, 0.8f}, new float[] {0f, 0.45f, 0.55f, 1f}),
+    };
+
+    // --- Pedras geradas e ainda não lançadas (anel, da mais próxima para a mais distante) ---
+    private final double[] distance = new double[CAPACITY];
+    private final float[] lane = new float[CAPACITY];
+    private final float[] speed = new float[CAPACITY]; // 0..1, escala da variação de velocidade
+    private int head = 0;
+    private int count = 0;
+
+    // --- Troncos (uma sequência própria: o tronco renasce quando é desviado, não por distância) ---
+    public float logGap;   // 0..1: quão longe à direita da tela ele reaparece
+    public float logLane;  // 0..1: altura na pista
+    public float logSpeed; // 0..1: variação de velocidade
+    private long logState;
+
+    private final long seed;
+    private final float density; // DifficultyParams.endlessDensity
+    private int nextChunk = 0;
+    private long state; // SplitMix64 do chunk sendo gerado
+
+    // Valores da pedra devolvida por poll()
+    public float polledLane;
+    public float polledSpeed;
+
+    public TrackGenerator(long seed, float density) {
+        this.seed = seed;
+        this.density = density;
+        this.logState = seed ^ 0x5DEECE66DL;
+    }
+
+    // Gera o próximo chunk se a pista pronta não cobre LOOKAHEAD_CHUNKS telas à frente
+    public void update(double travelled) {
+        if ((double) nextChunk * CHUNK_LENGTH < travelled + LOOKAHEAD_CHUNKS * CHUNK_LENGTH) {
+            generateChunk(nextChunk++);
+        }
+    }
+
+    // Tira a próxima pedra se a distância dela já chegou; os valores ficam em polledLane/polledSpeed
+    public boolean poll(double travelled) {
+        if (count == 0 || distance[head] > travelled) return false;
+        polledLane = lane[head];
+        polledSpeed = speed[head];
+        head = (head + 1) % CAPACITY;
+        count--;
+        return true;
+    }
+
+    public void nextLog() {
+        logGap = nextFloatLog();
+        logLane = nextFloatLog();
+        logSpeed = nextFloatLog();
+    }
+
+    void generateChunk(int chunk) {
+        state = seed + chunk * 0x9E3779B97F4A7C15L;
+        if (chunk == 0) return; // primeira tela livre: o jogador ainda está acelerando
+
+        int tier = Math.min(MAX_TIER, chunk / CHUNKS_PER_TIER);
+        float fillChance = Math.min(1f, density * (0.6f + 0.2f * tier));
+        float slotLength = CHUNK_LENGTH / SLOTS_PER_CHUNK;
+        for (int slot = 0; slot < SLOTS_PER_CHUNK; slot++) {
+            if (nextFloat() >= fillChance) continue;
+
+            Pattern pattern = pickPattern(tier);
+            boolean mirrored = nextFloat() < 0.5f;
+            float patternSpeed = nextFloat();
+            double start = (double) chunk * CHUNK_LENGTH + slot * slotLength;
+            for (int i = 0; i < pattern.offsets.length; i++) {
+                float l = pattern.lanes[i] < 0 ? nextFloat() : pattern.lanes[i];
+                add(start + pattern.offsets[i] * slotLength, mirrored ? 1f - l : l, patternSpeed);
+            }
+        }
+    }
+
+    // Sorteio uniforme entre os padrões já liberados no nível de dificuldade
+    private Pattern pickPattern(int tier) {
+        int available = 0;
+        for (Pattern pattern : PATTERNS) {
+            if (pattern.minTier <= tier) available++;
+        }
+        int pick = (int) (nextFloat() * available);
+        for (Pattern pattern : PATTERNS) {
+            if (pattern.minTier <= tier && pick-- == 0) return pattern;
+        }
+        return PATTERNS[0];
+    }
+
+    // Os offsets crescem dentro do padrão e os slots vêm em ordem, mas dois pontos do mesmo
+    // padrão podem ter a mesma distância: inserção ordenada a partir do fim (poucos passos)
+    private void add(double d, float l, float s) {
+        if (count == CAPACITY) return; // não acontece com os padrões atuais
+        int n = count;
+        while (n > 0 && distance[(head + n - 1) % CAPACITY] > d) {
+            int from = (head + n - 1) % CAPACITY;
+            int to = (head + n) % CAPACITY;
+            distance[to] = distance[from];
+            lane[to] = lane[from];
+            speed[to] = speed[from];
+            n--;
+        }
+        int i = (head + n) % CAPACITY;
+        distance[i] = d;
+        lane[i] = l;
+        speed[i] = s;
+        count++;
+    }
+
+    public int pending() {
+        return count;
+    }
+
+    public int getGeneratedChunks() {
+        return nextChunk;
+    }
+
+    // --- SplitMix64: sem objetos, e o estado de cada chunk sai só da semente e do índice ---
+    private float nextFloat() {
+        state += 0x9E3779B97F4A7C15L;
+        return (mix(state) >>> 40) * 0x1.0p-24f;
+    }
+
+    private float nextFloatLog() {
+        logState += 0x9E3779B97F4A7C15L;
+        return (mix(logState) >>> 40) * 0x1.0p-24f;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -12,6 +12,8 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
 public class TransitionScreen implements Screen {
@@ -33,6 +35,19 @@ public class TransitionScreen implements Screen {
     private boolean waitingForInput = false;
     private boolean transitionComplete = false;
 
+    // --- Saída da tela (fade out no próprio render, sem threads) ---
+    private static final float FADE_OUT_DELAY = 0.5f;
+    private boolean fadingOut = false;
+    private boolean goToNextLevel = false; // false = volta ao menu
+    private float fadeOutDelay = 0f;
+
+    // --- Pré-carregamento da próxima fase ---
+    // Fundo e sprites da próxima fase entram na fila do game.assets já no construtor e
+    // carregam durante o fade/animação; o GameScreen novo só encontra tudo pronto.
+    private final Array<String> preloadedAssets = new Array<>();
+    private boolean nextLevelLoaded = false;
+    private final Vector3 touchPos = new Vector3();
+
     // Opções do menu
     private Rectangle yesButton;
     private Rectangle noButton;
@@ -42,6 +57,8 @@ public class TransitionScreen implements Screen {
     // Efeitos visuais
     private float pulseTime = 0f;
     private Texture backgroundTexture;
+    private boolean backgroundShared = false; // veio do game.assets (release) ou é placeholder nosso (dispose)
+    private Texture overlayTexture;
 
     // Dimensões para centralização
     private final float CONTENT_WIDTH = MainGame.VIRTUAL_WIDTH * 0.8f;
@@ -75,11 +92,13 @@ public class TransitionScreen implements Screen {
         promptFont.setColor(new Color(0.8f, 0.8f, 0.8f, 1));
 
         // Carregar background
-        try {
-            backgroundTexture = new Texture(Gdx.files.internal("background.png"));
-        } catch (Exception e) {
+        if (game.assets.exists(Assets.BACKGROUND_LEVEL_1)) {
+            backgroundTexture = game.assets.acquire(Assets.BACKGROUND_LEVEL_1, Texture.class);
+            backgroundShared = true;
+        } else {
             backgroundTexture = createPlaceholderTexture((int)MainGame.VIRTUAL_WIDTH, (int)MainGame.VIRTUAL_HEIGHT, new Color(0.1f, 0.1f, 0.3f, 1));
         }
+        overlayTexture = createPlaceholderTexture(1, 1, Color.BLACK);
 
         // Definir áreas dos botões - CENTRALIZADOS
         float buttonWidth = 200f;
@@ -89,11 +108,14 @@ public class TransitionScreen implements Screen {
 
         yesButton = new Rectangle(centerX - buttonWidth - 20f, buttonY, buttonWidth, buttonHeight);
         noButton = new Rectangle(centerX + 20f, buttonY, buttonWidth, buttonHeight);
+
+        game.assets.preloadLevel(nextLevel, preloadedAssets);
     }
 
     @Override
     public void render(float delta) {
         update(delta);
+        if (transitionComplete) return; // a tela já foi trocada e descartada neste frame
 
         // Limpar tela
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.2f, 1);
@@ -134,6 +156,15 @@ public class TransitionScreen implements Screen {
     private void update(float delta) {
         pulseTime += delta;
 
+        if (!nextLevelLoaded) {
+            nextLevelLoaded = game.assets.update();
+        }
+
+        if (fadingOut) {
+            updateFadeOut(delta);
+            return;
+        }
+
         // Animação de fade
         if (fadeIn) {
             fadeAlpha += delta * 2f;
@@ -150,9 +181,31 @@ public class TransitionScreen implements Screen {
         }
     }
 
+    private void updateFadeOut(float delta) {
+        // Aguardar um pouco antes do fade out
+        if (fadeOutDelay > 0) {
+            fadeOutDelay -= delta;
+            return;
+        }
+
+        fadeAlpha -= delta;
+        if (fadeAlpha > 0) return;
+        fadeAlpha = 0;
+
+        if (goToNextLevel) {
+            // Só troca de tela quando a próxima fase terminou de carregar
+            if (!nextLevelLoaded) return;
+            game.setScreen(new GameScreen(game, nextLevel));
+        } else {
+            game.setScreen(new MenuScreen(game));
+        }
+        transitionComplete = true;
+        dispose();
+    }
+
     private void updateButtonHover() {
         // Usar a mesma viewport para unproject
-        com.badlogic.gdx.math.Vector3 touchPos = new com.badlogic.gdx.math.Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+        touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
         viewport.unproject(touchPos);
 
         yesHovered = yesButton.contains(touchPos.x, touchPos.y);
@@ -165,7 +218,7 @@ public class TransitionScreen implements Screen {
 
         // Overlay semi-transparente para melhor legibilidade - CENTRALIZADO
         game.batch.setColor(0, 0, 0, 0.7f);
-        game.batch.draw(createPlaceholderTexture(1, 1, Color.BLACK),
+        game.batch.draw(overlayTexture,
             CONTENT_X, CONTENT_Y, CONTENT_WIDTH, CONTENT_HEIGHT);
         game.batch.setColor(Color.WHITE);
 
@@ -252,7 +305,7 @@ public class TransitionScreen implements Screen {
     private void handleInput() {
         if (waitingForInput && Gdx.input.justTouched()) {
             // Usar a mesma viewport para unproject
-            com.badlogic.gdx.math.Vector3 touchPos = new com.badlogic.gdx.math.Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+            touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
             viewport.unproject(touchPos);
 
             if (yesButton.contains(touchPos.x, touchPos.y)) {
@@ -286,65 +339,16 @@ public class TransitionScreen implements Screen {
 
     private void startFadeOut() {
         // Iniciar fade out para próxima fase
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    // Aguardar um pouco antes do fade out
-                    Thread.sleep(500);
-
-                    // Fazer fade out
-                    while (fadeAlpha > 0) {
-                        fadeAlpha -= 0.05f;
-                        if (fadeAlpha < 0) fadeAlpha = 0;
-                        Thread.sleep(50);
-                    }
-
-                    // Mudar para próxima fase
-                    Gdx.app.postRunnable(new Runnable() {
-                        @Override
-                        public void run() {
-                            GameScreen nextGameScreen = new GameScreen(game, nextLevel);
-                            game.setScreen(nextGameScreen);
-                            dispose();
-                        }
-                    });
-
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        }).start();
+        fadingOut = true;
+        goToNextLevel = true;
+        fadeOutDelay = FADE_OUT_DELAY;
     }
 
     private void returnToMenu() {
         // Voltar ao menu principal
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    // Fazer fade out
-                    while (fadeAlpha > 0) {
-                        fadeAlpha -= 0.05f;
-                        if (fadeAlpha < 0) fadeAlpha = 0;
-                        Thread.sleep(50);
-                    }
-
-                    // Voltar ao menu
-                    Gdx.app.postRunnable(new Runnable() {
-                        @Override
-                        public void run() {
-                            MenuScreen menuScreen = new MenuScreen(game);
-                            game.setScreen(menuScreen);
-                            dispose();
-                        }
-                    });
-
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        }).start();
+        fadingOut = true;
+        goToNextLevel = false;
+        fadeOutDelay = 0f;
     }
 
     private Texture createPlaceholderTexture(int width, int height, Color color) {
@@ -371,12 +375,24 @@ public class TransitionScreen implements Screen {
         optionFont.dispose();
         promptFont.dispose();
         shapeRenderer.dispose();
-        if (backgroundTexture != null && backgroundTexture != game.placeholderTexture) {
+        if (backgroundShared) {
+            game.assets.release(Assets.BACKGROUND_LEVEL_1);
+        } else if (backgroundTexture != null) {
             backgroundTexture.dispose();
         }
+        overlayTexture.dispose();
+        // O GameScreen novo já pegou suas próprias referências; as do pré-carregamento saem aqui
+        for (String path : preloadedAssets) {
+            game.assets.release(path);
+        }
+        preloadedAssets.clear();
+    }
+
+    @Override
+    public void show() {
+        game.framePacing.setMode(FramePacing.Mode.MENU);
     }
 
-    @Override public void show() {}
     @Override public void hide() {}
     @Override public void pause() {}
     @Override public void resume() {}
@@ -0,0 +1,187 @@
+package br.jogobike;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+// Cópia de tudo que o GameRenderer (e o GameScreen) leem do GameWorld, tirada ao fim de um passo.
+// O renderer desenha só a partir daqui, então pode rodar em outro thread enquanto a simulação
+// já calcula o passo seguinte. Guarda as posições do passo anterior e do atual para o desenho
+// continuar interpolando com alpha. Os arrays são reaproveitados: capture() não aloca em regime.
+public class WorldSnapshot {
+    // --- Estado geral ---
+    public int level;
+    public int pontos;
+    public int vidas;
+    public boolean paused;
+    public boolean gameOver;
+    public boolean levelComplete;
+    public boolean podeLevarDano;
+    public float tempoInvencivel;
+    public float trackTop;
+    public float avalancheTimer;
+    public float avalancheHeight;
+    public float windTimer;
+    public float prevBackgroundOffsetX, backgroundOffsetX; // prev já corrigido quando o fundo dá a volta
+    public long publishNanos; // System.nanoTime() de quando o passo foi publicado (modo com thread)
+
+    // --- Jogador ---
+    public float prevPlayerX, prevPlayerY;
+    public float playerX, playerY;
+    public float playerWidth, playerHeight;
+    public float playerSpeedX;
+    public float maxSpeed;
+    public float baseMaxSpeed;
+
+    // --- Tronco ---
+    public boolean hasBot;
+    public float prevBotX, prevBotY;
+    public float botX, botY;
+    public float botWidth, botHeight;
+    public float botAlpha;
+
+    // --- Neve da avalanche ---
+    public int snowCount;
+    public final float[] snowX = new float[GameWorld.SNOW_CAPACITY];
+    public final float[] snowY = new float[GameWorld.SNOW_CAPACITY];
+    public final float[] snowSize = new float[GameWorld.SNOW_CAPACITY];
+    public final float[] snowAlpha = new float[GameWorld.SNOW_CAPACITY];
+
+    // --- Linhas de vento (só as ativas) ---
+    public int windCount;
+    public float[] windX = new float[16];
+    public float[] windY = new float[16];
+    public float[] windLength = new float[16];
+    public float[] windThickness = new float[16];
+    public float[] windAlpha = new float[16];
+
+    // --- Rastro do dash (da linha mais antiga para a mais nova) ---
+    public int dashCount;
+    public float[] dashX = new float[16];
+    public float[] dashY = new float[16];
+    public float[] dashLength = new float[16];
+    public float[] dashAlpha = new float[16];
+
+    // --- Pedras ---
+    public int rockCount;
+    public float[] prevRockX = new float[16];
+    public float[] rockX = new float[16];
+    public float[] rockY = new float[16];
+    public float[] rockWidth = new float[16];
+    public float[] rockHeight = new float[16];
+
+    public void capture(GameWorld world) {
+        level = world.getCurrentLevel();
+        pontos = world.getPontos();
+        vidas = world.getVidas();
+        paused = world.isPaused();
+        gameOver = world.isGameOver();
+        levelComplete = world.isLevelComplete();
+        podeLevarDano = world.podeLevarDano();
+        tempoInvencivel = world.getTempoInvencivel();
+        trackTop = world.getTrackTop();
+        avalancheTimer = world.getAvalancheTimer();
+        avalancheHeight = world.getAvalancheHeight();
+        windTimer = world.getWindTimer();
+        prevBackgroundOffsetX = world.getRenderBackgroundOffsetX(0f);
+        backgroundOffsetX = world.getRenderBackgroundOffsetX(1f);
+
+        prevPlayerX = world.getRenderPlayerX(0f);
+        prevPlayerY = world.getRenderPlayerY(0f);
+        playerX = world.getPlayerX();
+        playerY = world.getPlayerY();
+        playerWidth = world.getPlayerWidth();
+        playerHeight = world.getPlayerHeight();
+        playerSpeedX = world.getPlayerSpeedX();
+        maxSpeed = world.getMaxSpeed();
+        baseMaxSpeed = world.getBaseMaxSpeed();
+
+        BotLog bot = world.getBot();
+        hasBot = bot != null;
+        if (hasBot) {
+            prevBotX = bot.getRenderX(0f);
+            prevBotY = bot.getRenderY(0f);
+            botX = bot.getRenderX(1f);
+            botY = bot.getRenderY(1f);
+            botWidth = bot.getWidth();
+            botHeight = bot.getHeight();
+            botAlpha = bot.getAlpha();
+        }
+
+        SnowParticles snow = world.getSnowParticles();
+        snowCount = snow.size();
+        System.arraycopy(snow.x, 0, snowX, 0, snowCount);
+        System.arraycopy(snow.y, 0, snowY, 0, snowCount);
+        System.arraycopy(snow.size, 0, snowSize, 0, snowCount);
+        System.arraycopy(snow.alpha, 0, snowAlpha, 0, snowCount);
+
+        captureWind(world.getWindLines());
+        captureDash(world.getDashTrail());
+        captureRocks(world.getRocks());
+    }
+
+    private void captureWind(Array<GameWorld.WindLine> lines) {
+        if (windX.length < lines.size) {
+            windX = new float[lines.size];
+            windY = new float[lines.size];
+            windLength = new float[lines.size];
+            windThickness = new float[lines.size];
+            windAlpha = new float[lines.size];
+        }
+        windCount = 0;
+        for (int i = 0; i < lines.size; i++) {
+            GameWorld.WindLine line = lines.get(i);
+            if (!line.isActive) continue;
+            windX[windCount] = line.x;
+            windY[windCount] = line.y;
+            windLength[windCount] = line.length;
+            windThickness[windCount] = line.thickness;
+            windAlpha[windCount] = line.alpha;
+            windCount++;
+        }
+    }
+
+    private void captureDash(DashTrail dash) {
+        if (dashX.length < dash.getCapacity()) {
+            dashX = new float[dash.getCapacity()];
+            dashY = new float[dash.getCapacity()];
+            dashLength = new float[dash.getCapacity()];
+            dashAlpha = new float[dash.getCapacity()];
+        }
+        dashCount = dash.size();
+        for (int n = 0; n < dashCount; n++) {
+            int i = dash.index(n);
+            dashX[n] = dash.x[i];
+            dashY[n] = dash.y[i];
+            dashLength[n] = dash.length[i];
+            dashAlpha[n] = dash.alpha[i];
+        }
+    }
+
+    private void captureRocks(Array<GameWorld.Rock> rocks) {
+        if (rockX.length < rocks.size) {
+            int capacity = Math.max(rocks.size, rockX.length * 2);
+            prevRockX = new float[capacity];
+            rockX = new float[capacity];
+            rockY = new float[capacity];
+            rockWidth = new float[capacity];
+            rockHeight = new float[capacity];
+        }
+        rockCount = rocks.size;
+        for (int i = 0; i < rockCount; i++) {
+            GameWorld.Rock rock = rocks.get(i);
+            prevRockX[i] = rock.prevX;
+            rockX[i] = rock.x;
+            rockY[i] = rock.y;
+            rockWidth[i] = rock.width;
+            rockHeight[i] = rock.height;
+        }
+    }
+
+    // --- Posições interpoladas (alpha = fração do passo fixo já acumulada) ---
+    public float getRenderPlayerX(float alpha) { return MathUtils.lerp(prevPlayerX, playerX, alpha); }
+    public float getRenderPlayerY(float alpha) { return MathUtils.lerp(prevPlayerY, playerY, alpha); }
+    public float getRenderBackgroundOffsetX(float alpha) { return MathUtils.lerp(prevBackgroundOffsetX, backgroundOffsetX, alpha); }
+    public float getRenderBotX(float alpha) { return MathUtils.lerp(prevBotX, botX, alpha); }
+    public float getRenderBotY(float alpha) { return MathUtils.lerp(prevBotY, botY, alpha); }
+    public float getRenderRockX(int i, float alpha) { return MathUtils.lerp(prevRockX[i], rockX[i], alpha); }
+}
@@ -0,0 +1,205 @@
+package br.jogobike.headless;
+
+import br.jogobike.GameScreen;
+import br.jogobike.InputRecording;
+import br.jogobike.MainGame;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+// Sobe o MainGame de verdade no backend headless (sem janela; NullGL20 no lugar do OpenGL),
+// troca para um GameScreen e chama o render dele um número fixo de frames, medindo cada um.
+// Como não há GPU, o tempo medido é o custo de CPU do frame: input, simulação, montagem dos
+// vértices no SpriteBatch e chamadas GL (vazias). Delta fixo de um passo da simulação por
+// frame, então a sessão é a mesma em qualquer máquina.
+// A sessão é um replay gravado (--replay=arquivo.rpl) ou um roteiro de input sintético
+// (o padrão), gravado numa InputRecording e reproduzido em modo benchmark (sem dano nem
+// troca de fase) para a corrida não acabar no meio da medição.
+// Uso: ./gradlew headless:run --args="--frames=5000 --warmup=600 --level=2 --seed=42"
+public class HeadlessBenchmark extends ApplicationAdapter {
+    private int frames = 3000;
+    private int warmup = 600;
+    private int level = 1;
+    private long seed = 42L;
+    private boolean endless = false; // roteiro no modo sem fim (pista gerada por chunks)
+    private String replayFile; // null = roteiro sintético
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        HeadlessBenchmark benchmark = new HeadlessBenchmark();
+        for (String arg : args) {
+            benchmark.parseArgument(arg);
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // sem loop do backend: os frames são chamados no create()
+        new HeadlessApplication(benchmark, config);
+    }
+
+    private void parseArgument(String arg) {
+        int equals = arg.indexOf('=');
+        String key = equals >= 0 ? arg.substring(0, equals) : arg;
+        String value = equals >= 0 ? arg.substring(equals + 1) : "";
+        try {
+            switch (key) {
+                case "--frames": frames = Integer.parseInt(value); break;
+                case "--warmup": warmup = Integer.parseInt(value); break;
+                case "--level": level = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--endless": endless = true; break;
+                case "--replay": replayFile = value; break;
+                default:
+                    System.err.println("Opção desconhecida: " + arg);
+                    System.err.println("Uso: HeadlessBenchmark [--frames=N] [--warmup=N] [--level=1|2] [--seed=N] [--endless] [--replay=arquivo.rpl]");
+                    System.exit(2);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Valor inválido: " + arg);
+            System.exit(2);
+        }
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = new NullGL20();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        int exitCode = 0;
+        try {
+            run();
+        } catch (Throwable t) {
+            t.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    private void run() throws IOException {
+        MainGame game = new MainGame();
+        game.create(); // abre no MenuScreen, como no desktop
+
+        GameScreen screen;
+        if (replayFile != null) {
+            InputRecording replay;
+            try (InputStream in = new BufferedInputStream(new FileInputStream(replayFile))) {
+                replay = InputRecording.read(in);
+            }
+            System.out.println("Replay " + replayFile + ": fase " + replay.getLevel() + ", semente " + replay.getSeed()
+                + ", " + replay.getTickCount() + " passos");
+            screen = new GameScreen(game, replay);
+        } else {
+            System.out.println("Roteiro sintético: fase " + level + (endless ? " (sem fim)" : "") + ", semente " + seed);
+            screen = new GameScreen(game, script(warmup + frames));
+            screen.setBenchmarkMode(true);
+        }
+
+        Screen menu = game.getScreen();
+        game.setScreen(screen);
+        menu.dispose();
+        // O Game repassa o tamanho do Gdx.graphics, que no headless é 0x0 (nada seria desenhado)
+        screen.resize((int) MainGame.VIRTUAL_WIDTH, (int) MainGame.VIRTUAL_HEIGHT);
+
+        for (int frame = 0; frame < warmup; frame++) {
+            if (!frame(game, screen)) {
+                System.out.println("A sessão acabou durante o aquecimento (frame " + frame + ")");
+                return;
+            }
+        }
+
+        long[] frameNanos = new long[frames];
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        int allocatingFrames = 0;
+        int measured = 0;
+        long elapsed = 0;
+        long allocated = 0;
+        long start = System.nanoTime();
+        while (measured < frames) {
+            long frameAllocated = threads.getThreadAllocatedBytes(threadId);
+            long frameStart = System.nanoTime();
+            boolean running = frame(game, screen);
+            long frameEnd = System.nanoTime();
+            if (!running) {
+                // Game over ou fim de fase: o frame inclui montar a próxima tela, não entra na conta
+                System.out.println("A sessão acabou no frame medido " + measured);
+                break;
+            }
+            frameNanos[measured] = frameEnd - frameStart;
+            if (threads.getThreadAllocatedBytes(threadId) > frameAllocated) allocatingFrames++;
+            measured++;
+            elapsed = frameEnd - start;
+            allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+
+        if (game.getScreen() == screen) screen.dispose();
+
+        report(frameNanos, measured, elapsed, allocated, allocatingFrames,
+            gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+    }
+
+    // Um frame do jogo; false quando o GameScreen trocou de tela (e já se descartou)
+    private boolean frame(MainGame game, GameScreen screen) {
+        screen.render(GameScreen.SIM_STEP);
+        return game.getScreen() == screen;
+    }
+
+    // Mesmo padrão de input do AllocationCheck: sobe e desce a pista, acelera e freia de vez em quando
+    private InputRecording script(int ticks) {
+        InputRecording recording = new InputRecording(level, seed, endless);
+        for (int tick = 0; tick < ticks; tick++) {
+            int phase = (tick / 90) % 4;
+            boolean brake = tick % 600 > 560;
+            recording.record(InputRecording.mask(phase == 0, phase == 2, !brake, brake));
+        }
+        return recording;
+    }
+
+    private void report(long[] frameNanos, int measured, long elapsed, long allocated, int allocatingFrames,
+                        long gcCount, long gcTime) {
+        if (measured == 0) return;
+        long[] sorted = Arrays.copyOf(frameNanos, measured);
+        Arrays.sort(sorted);
+
+        System.out.println("Frames medidos: " + measured + " (aquecimento " + warmup + ")");
+        System.out.printf("FPS (CPU): %.1f%n", measured / (elapsed / 1e9));
+        System.out.printf("Tempo de frame: média %.3f ms, p50 %.3f ms, p99 %.3f ms, máx %.3f ms%n",
+            elapsed / 1e6 / measured, percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[measured - 1] / 1e6);
+        System.out.printf("Alocação: %d bytes no total, %.1f bytes/frame, %d frames alocaram%n",
+            allocated, allocated / (double) measured, allocatingFrames);
+        System.out.println("GC: " + gcCount + " coletas, " + gcTime + " ms");
+    }
+
+    // Percentil por posição na lista ordenada (nearest-rank), em ms
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,136 @@
+package br.jogobike.lwjgl3;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import br.jogobike.GameLog;
+
+// Opções do launcher desktop. Vêm de três lugares, cada um sobrescrevendo o anterior:
+//   1. jogobike.properties no diretório de trabalho (chave=valor, ex.: fps=144)
+//   2. propriedades de sistema com o prefixo "jogobike." (ex.: -Djogobike.vsync=false);
+//      sobrevivem ao reinício da JVM que o StartupHelper faz no macOS, os argumentos não
+//   3. argumentos da linha de comando: --fps=144, --vsync / --no-vsync, --benchmark ...
+// As chaves são as mesmas nos três (ver apply()).
+public class LaunchOptions {
+    public static final String PROPERTIES_FILE = "jogobike.properties";
+    private static final String SYSTEM_PREFIX = "jogobike.";
+
+    // --- Janela ---
+    public int width = 1080;
+    public int height = 900;
+
+    // --- Ritmo de frames (0 = sem limite) ---
+    public int fps = -1;          // -1 = taxa do monitor + 1 (padrão do template)
+    public boolean vsync = true;
+    public int menuFps = 30;      // menu e tela de transição
+    public int pausedFps = 15;    // jogo pausado
+    public int unfocusedFps = 10; // janela sem foco ou minimizada
+    public boolean throttle = true; // false = sempre no limite normal, em qualquer tela
+
+    // --- Outros ---
+    public boolean benchmark = false;  // sem vsync, sem limite e sem throttle (medir desempenho)
+    public boolean simThread = false;  // MainGame.threadedSimulation
+    public int logLevel = GameLog.INFO; // GameLog: none, error, info ou debug
+
+    public static LaunchOptions load(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+
+        File file = new File(PROPERTIES_FILE);
+        if (file.isFile()) {
+            Properties properties = new Properties();
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                System.err.println("[LaunchOptions] Erro ao ler " + PROPERTIES_FILE + ": " + e.getMessage());
+            }
+            for (String key : properties.stringPropertyNames()) {
+                options.apply(key.trim(), properties.getProperty(key).trim());
+            }
+        }
+
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(SYSTEM_PREFIX)) {
+                options.apply(key.substring(SYSTEM_PREFIX.length()), System.getProperty(key).trim());
+            }
+        }
+
+        for (String arg : args) {
+            options.parseArgument(arg);
+        }
+
+        if (options.benchmark) {
+            options.vsync = false;
+            options.fps = 0;
+            options.throttle = false;
+        }
+        return options;
+    }
+
+    // --chave=valor, --chave (liga) ou --no-chave (desliga)
+    private void parseArgument(String arg) {
+        if (!arg.startsWith("--")) {
+            System.err.println("[LaunchOptions] Argumento ignorado: " + arg);
+            return;
+        }
+        String option = arg.substring(2);
+        int equals = option.indexOf('=');
+        if (equals >= 0) {
+            apply(option.substring(0, equals), option.substring(equals + 1));
+        } else if (option.startsWith("no-")) {
+            apply(option.substring(3), "false");
+        } else {
+            apply(option, "true");
+        }
+    }
+
+    private void apply(String key, String value) {
+        switch (key) {
+            case "width": width = parseInt(key, value, width); break;
+            case "height": height = parseInt(key, value, height); break;
+            case "window": parseWindow(value); break;
+            case "fps": fps = parseInt(key, value, fps); break;
+            case "vsync": vsync = Boolean.parseBoolean(value); break;
+            case "menu-fps": menuFps = parseInt(key, value, menuFps); break;
+            case "paused-fps": pausedFps = parseInt(key, value, pausedFps); break;
+            case "unfocused-fps": unfocusedFps = parseInt(key, value, unfocusedFps); break;
+            case "throttle": throttle = Boolean.parseBoolean(value); break;
+            case "benchmark": benchmark = Boolean.parseBoolean(value); break;
+            case "sim-thread": simThread = Boolean.parseBoolean(value); break;
+            case "log-level": logLevel = parseLogLevel(value, logLevel); break;
+            default:
+                System.err.println("[LaunchOptions] Opção desconhecida: " + key);
+        }
+    }
+
+    private static int parseLogLevel(String value, int fallback) {
+        int level = GameLog.parseLevel(value, -1);
+        if (level < 0) {
+            System.err.println("[LaunchOptions] Nível de log inválido (none, error, info ou debug): " + value);
+            return fallback;
+        }
+        return level;
+    }
+
+    // "1280x720"
+    private void parseWindow(String value) {
+        int x = value.indexOf('x');
+        if (x < 0) {
+            System.err.println("[LaunchOptions] Tamanho de janela inválido (use LARGURAxALTURA): " + value);
+            return;
+        }
+        width = parseInt("window", value.substring(0, x), width);
+        height = parseInt("window", value.substring(x + 1), height);
+    }
+
+    private static int parseInt(String key, String value, int fallback) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[LaunchOptions] Valor inválido para " + key + ": " + value);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.jogobike.lwjgl3;
+
+import br.jogobike.FramePacing;
+import br.jogobike.GameScreen;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Graphics;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
+
+// Limita o FPS conforme o modo pedido pelas telas e o foco da janela. O Lwjgl3Application lê
+// o foregroundFPS da configuração a cada volta do loop, então trocar pelo Lwjgl3Graphics vale
+// já no próximo frame. A janela minimizada não desenha e cai no idleFPS da configuração.
+// Os callbacks de foco chegam no glfwPollEvents, no mesmo thread do render: sem sincronização.
+public class Lwjgl3FramePacing extends Lwjgl3WindowAdapter implements FramePacing {
+    private final LaunchOptions options;
+    private final int gameplayFps;
+    private Mode mode = Mode.GAMEPLAY;
+    private boolean focused = true;
+    private int appliedFps;
+
+    public Lwjgl3FramePacing(LaunchOptions options, int gameplayFps) {
+        this.options = options;
+        this.gameplayFps = gameplayFps;
+        this.appliedFps = gameplayFps;
+    }
+
+    @Override
+    public void setMode(Mode mode) {
+        this.mode = mode;
+        apply();
+    }
+
+    @Override
+    public void focusLost() {
+        focused = false;
+        apply();
+    }
+
+    @Override
+    public void focusGained() {
+        focused = true;
+        apply();
+    }
+
+    private void apply() {
+        if (!(Gdx.graphics instanceof Lwjgl3Graphics)) return; // janela ainda não criada
+        int fps = targetFps();
+        if (fps == appliedFps) return;
+        appliedFps = fps;
+        ((Lwjgl3Graphics) Gdx.graphics).setForegroundFPS(fps);
+    }
+
+    private int targetFps() {
+        if (!options.throttle) return gameplayFps;
+        int cap;
+        if (!focused) {
+            cap = options.unfocusedFps;
+            // Janela visível sem foco com a corrida rodando: o jogo continua, então o limite não
+            // pode cair abaixo do que o passo fixo acompanha em tempo real
+            if (mode == Mode.GAMEPLAY && cap > 0) cap = Math.max(cap, GameScreen.MIN_GAMEPLAY_FPS);
+        } else if (mode == Mode.MENU) {
+            cap = options.menuFps;
+        } else if (mode == Mode.PAUSED) {
+            cap = options.pausedFps;
+        } else {
+            return gameplayFps;
+        }
+        // Nunca acima do limite normal (0 = sem limite dos dois lados)
+        if (cap <= 0) return gameplayFps;
+        return gameplayFps <= 0 ? cap : Math.min(cap, gameplayFps);
+    }
+}
@@ -2,33 +2,47 @@ package br.jogobike.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import br.jogobike.GameLog;
 import br.jogobike.MainGame;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(LaunchOptions.load(args));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new MainGame(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(LaunchOptions options) {
+        GameLog.setLevel(options.logLevel);
+        MainGame game = new MainGame();
+        game.threadedSimulation = options.simThread;
+        int fps = getForegroundFps(options);
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration(options, fps);
+        Lwjgl3FramePacing pacing = new Lwjgl3FramePacing(options, fps);
+        game.framePacing = pacing;
+        configuration.setWindowListener(pacing);
+        return new Lwjgl3Application(game, configuration);
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    //// By default FPS is limited to the refresh rate of the currently active monitor, plus 1 to try to
+    //// match fractional refresh rates. --fps=N sets another cap; --fps=0 (or --benchmark, which also
+    //// turns off vsync) removes it, which is useful for testing performance but stressful to hardware.
+    private static int getForegroundFps(LaunchOptions options) {
+        return options.fps >= 0 ? options.fps : Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1;
+    }
+
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(LaunchOptions options, int fps) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("ProjetoGame");
         //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
-        //// screen tearing. This setting doesn't always work on Linux, so the line after is a safeguard.
-        configuration.useVsync(true);
-        //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
-        //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
-        //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
-        //// useful for testing performance, but can also be very stressful to some hardware.
+        //// screen tearing. This setting doesn't always work on Linux, so the FPS cap is a safeguard.
+        configuration.useVsync(options.vsync);
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
+        configuration.setForegroundFPS(fps);
+        //// Minimized windows don't render; this caps how often the loop still spins meanwhile.
+        configuration.setIdleFPS(options.throttle && options.unfocusedFps > 0 ? options.unfocusedFps : 60);
 
-        configuration.setWindowedMode(1080, 900);
+        configuration.setWindowedMode(options.width, options.height);
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         //// They can also be loaded from the root of assets/ .S
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");